@@ -0,0 +1,113 @@
+plugins {
+    id("java-library")
+    id("signing")
+
+    alias(libs.plugins.dokka)
+    alias(libs.plugins.maven.publish)
+    alias(libs.plugins.jmh)
+}
+
+val javaVersion: JavaVersion by rootProject.extra
+
+dependencies {
+    api(project(":barcode-core"))
+    testImplementation(libs.junit)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    // narrow a run with -PjmhIncludes=EncodeBenchmark
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
+
+val dokkaOutputDir = layout.buildDirectory.asFile.get().resolve("docs")
+dokka {
+    moduleName.set(project.properties["POM_NAME"].toString())
+    dokkaSourceSets.javaMain {
+        sourceLink {
+            localDirectory.set(file("src/main/kotlin"))
+            remoteUrl(project.properties["POM_URL"].toString())
+        }
+    }
+    pluginsConfiguration.html {
+        footerMessage.set("(c) " + project.properties["POM_DEVELOPER_NAME"].toString())
+    }
+    dokkaPublications.html {
+        outputDirectory.set(dokkaOutputDir)
+    }
+}
+
+tasks {
+    jar {
+        manifest {
+            attributes["Implementation-Title"] = "Barcode for Java AWT"
+            attributes["Implementation-Version"] = archiveVersion
+            attributes["Implementation-Vendor"] = project.properties["POM_DEVELOPER_NAME"].toString()
+        }
+    }
+
+    val sourcesJar by registering(Jar::class, fun Jar.() {
+        archiveClassifier.set("sources")
+        from(sourceSets["main"].allSource)
+    })
+
+    val javadocJar by registering(Jar::class, fun Jar.() {
+        dependsOn.add(javadoc)
+        dependsOn.add(dokkaGenerate)
+        archiveClassifier.set("javadoc")
+        from(dokkaOutputDir)
+    })
+
+    test {
+        useJUnitPlatform()
+    }
+
+    // thresholds are measured on JDK 17 and allocation differs between JDKs, so CI runs this in its own job on 17 instead of in check
+    register("allocationGate", JavaExec::class, fun JavaExec.() {
+        group = "verification"
+        description = "Fails if bytes allocated per operation of any encode or render scenario exceed src/jmh/allocation-thresholds.properties (measured on JDK 17)."
+        val thresholds = file("src/jmh/allocation-thresholds.properties")
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass.set("com.pnuema.java.barcode.AllocationGate")
+        // escape analysis removes allocations only in some runs, keep it off so the counts are repeatable
+        jvmArgs("-Djava.awt.headless=true", "-XX:-DoEscapeAnalysis")
+        args(thresholds.absolutePath)
+        if (project.hasProperty("updateAllocationThresholds")) {
+            args("--update")
+        } else {
+            inputs.file(thresholds)
+        }
+    })
+
+    register("coldStartBenchmark", JavaExec::class, fun JavaExec.() {
+        group = "verification"
+        description = "Measures time, loaded classes and heap to the first barcode in fresh JVMs against src/jmh/cold-start-baseline.properties."
+        val baseline = file("src/jmh/cold-start-baseline.properties")
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass.set("com.pnuema.java.barcode.ColdStartBenchmark")
+        args(project.findProperty("coldStartIterations")?.toString() ?: "10", baseline.absolutePath)
+        if (project.hasProperty("updateColdStartBaseline")) {
+            args("--update")
+        }
+    })
+
+    java {
+        sourceCompatibility = javaVersion
+        targetCompatibility = javaVersion
+    }
+
+    artifacts {
+        archives(jar)
+        archives(sourcesJar)
+        archives(javadocJar)
+    }
+
+    afterEvaluate {
+        tasks.named("generateMetadataFileForMavenPublication") {
+            dependsOn.add(tasks.named("dokkaGenerate"))
+            dependsOn.add(tasks.named("sourcesJar"))
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.pnuema.java.barcode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Allocation regression gate run by the {@code allocationGate} build task.
+ * Runs a curated set of encode, render, bitmap and serialize scenarios, measures the bytes allocated per operation with the
+ * thread allocation counter of the JVM and fails if any scenario allocates more than its checked-in threshold.
+ * The build runs it with escape analysis disabled and the lowest of several rounds is reported, so the counts do not
+ * depend on which allocations the JIT happened to eliminate. Run with {@code --update} to rewrite the thresholds from
+ * the current measurements plus {@link #HEADROOM}. Allocation in ImageIO and Java 2D differs between JDKs, so the
+ * thresholds are measured on JDK 17 and CI runs the gate in a job of its own on that JDK rather than in every build.
+ */
+public final class AllocationGate {
+    private static final double HEADROOM = 1.10;
+    private static final int ROUNDS = 3;
+    private static final int ENCODE_WARMUP = 5000;
+    private static final int ENCODE_OPERATIONS = 1000;
+    private static final int RENDER_WARMUP = 300;
+    private static final int RENDER_OPERATIONS = 50;
+
+    private static volatile Object sink;
+
+    private interface Scenario {
+        Object run();
+    }
+
+    private AllocationGate() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: AllocationGate <thresholds file> [--update]");
+            System.exit(2);
+        }
+
+        Path thresholdsFile = Paths.get(args[0]);
+        boolean update = args.length > 1 && "--update".equals(args[1]);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.err.println("EALLOCATIONGATE-1: Thread allocation counter is not supported by this JVM.");
+            System.exit(2);
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Map<String, Long> measured = new LinkedHashMap<>();
+        for (Map.Entry<String, Scenario> scenario : scenarios().entrySet()) {
+            boolean render = !scenario.getKey().startsWith("encode.");
+            measured.put(scenario.getKey(), measure(threads, scenario.getValue(),
+                    render ? RENDER_WARMUP : ENCODE_WARMUP, render ? RENDER_OPERATIONS : ENCODE_OPERATIONS));
+        }
+
+        if (update) {
+            writeThresholds(thresholdsFile, measured);
+            System.out.println("Wrote " + measured.size() + " allocation thresholds to " + thresholdsFile);
+            return;
+        }
+
+        Properties thresholds = new Properties();
+        try (Reader reader = Files.newBufferedReader(thresholdsFile, StandardCharsets.UTF_8)) {
+            thresholds.load(reader);
+        }
+
+        List<String> failures = new ArrayList<>();
+        System.out.printf("%-40s %14s %14s%n", "Scenario", "Bytes/op", "Threshold");
+        for (Map.Entry<String, Long> entry : measured.entrySet()) {
+            String threshold = thresholds.getProperty(entry.getKey());
+            System.out.printf("%-40s %14d %14s%n", entry.getKey(), entry.getValue(), threshold == null ? "-" : threshold);
+
+            if (threshold == null) {
+                failures.add(entry.getKey() + ": no threshold");
+            } else if (entry.getValue() > Long.parseLong(threshold.trim())) {
+                failures.add(entry.getKey() + ": " + entry.getValue() + " bytes/op exceeds threshold of " + threshold.trim());
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            System.err.println("EALLOCATIONGATE-2: Allocation regression detected.");
+            for (String failure : failures) {
+                System.err.println("  " + failure);
+            }
+            System.err.println("If the increase is intended, run ./gradlew allocationGate -PupdateAllocationThresholds and commit the thresholds.");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Builds the scenarios: encoding every payload, drawing each image generation path, rasterizing thermal rows into
+     * a direct buffer in each format and serializing to PNG.
+     *
+     * @return Scenarios by name
+     */
+    private static Map<String, Scenario> scenarios() {
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+
+        BarcodeEncoder encoder = new BarcodeEncoder();
+        for (EncodePayload payload : EncodePayload.values()) {
+            scenarios.put("encode." + payload.name(), () -> encoder.encode(payload.getEncodingType(), payload.getData()).getEncodedValue());
+        }
+
+        for (EncodePayload payload : new EncodePayload[]{EncodePayload.CODE128_SKU, EncodePayload.EAN13_SKU, EncodePayload.UPCA_SKU, EncodePayload.ITF14_SKU}) {
+            Barcode barcode = newBarcode();
+            scenarios.put("render." + payload.name(), () -> barcode.encode(payload.getEncodingType(), payload.getData()));
+        }
+
+        EncodedBarcode encoded = encoder.encode(EncodePayload.EAN13_SKU.getEncodingType(), EncodePayload.EAN13_SKU.getData());
+        for (BarcodeBitmap.Formats format : BarcodeBitmap.Formats.values()) {
+            BarcodeBitmap bitmap = new BarcodeBitmap(832, 203);
+            bitmap.setIncludeLabel(true);
+            bitmap.setFormat(format);
+            ByteBuffer rows = ByteBuffer.allocateDirect(bitmap.getHeight(encoded) * bitmap.getMinimumStride());
+            scenarios.put("bitmap." + format.name() + "_DIRECT", () -> {
+                bitmap.render(encoded, rows, 0, bitmap.getMinimumStride());
+                return rows;
+            });
+        }
+
+        Barcode barcode = newBarcode();
+        barcode.encode(EncodePayload.CODE128_SKU.getEncodingType(), EncodePayload.CODE128_SKU.getData());
+        scenarios.put("serialize.PNG", () -> barcode.getImageData(Barcode.SaveTypes.PNG));
+
+        return scenarios;
+    }
+
+    private static Barcode newBarcode() {
+        Barcode barcode = new Barcode();
+        barcode.setWidth(RenderSize.SCREEN.getWidth());
+        barcode.setHeight(RenderSize.SCREEN.getHeight());
+        barcode.setIncludeLabel(true);
+        return barcode;
+    }
+
+    private static long measure(com.sun.management.ThreadMXBean threads, Scenario scenario, int warmup, int operations) {
+        for (int i = 0; i < warmup; i++) {
+            sink = scenario.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < operations; i++) {
+                sink = scenario.run();
+            }
+            long after = threads.getThreadAllocatedBytes(threadId);
+
+            lowest = Math.min(lowest, (after - before) / operations);
+        }
+
+        return lowest;
+    }
+
+    private static void writeThresholds(Path file, Map<String, Long> measured) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# Maximum bytes allocated per operation, checked by ./gradlew allocationGate\n");
+            writer.write("# Generated with ./gradlew allocationGate -PupdateAllocationThresholds (measured + " + Math.round((HEADROOM - 1) * 100) + "%)\n");
+            for (Map.Entry<String, Long> entry : measured.entrySet()) {
+                writer.write(entry.getKey() + "=" + (long) Math.ceil(entry.getValue() * HEADROOM) + "\n");
+            }
+        }
+    }
+}
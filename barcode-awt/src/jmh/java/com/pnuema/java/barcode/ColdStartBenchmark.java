@@ -0,0 +1,132 @@
+package com.pnuema.java.barcode;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Cold start benchmark run by the {@code coldStartBenchmark} build task.
+ * Starts a fresh JVM running {@link ColdStartProbe} for every iteration, so every measurement pays class loading,
+ * AWT, font and ImageIO initialization exactly as a short lived process does, and reports the median of each
+ * metric next to the baseline checked into the repository.
+ * Time and heap depend on the machine and are only reported. The number of loaded classes does not, so the run
+ * fails if it grows more than {@link #CLASS_TOLERANCE} over the baseline at any milestone.
+ * Run with {@code --update} to rewrite the baseline from the current medians.
+ */
+public final class ColdStartBenchmark {
+    private static final double CLASS_TOLERANCE = 1.05;
+
+    private ColdStartBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.err.println("Usage: ColdStartBenchmark <iterations> <baseline file> [--update]");
+            System.exit(2);
+        }
+
+        int iterations = Integer.parseInt(args[0]);
+        Path baselineFile = Paths.get(args[1]);
+        boolean update = args.length > 2 && "--update".equals(args[2]);
+
+        Map<String, List<Long>> samples = new LinkedHashMap<>();
+        for (int i = 0; i < iterations; i++) {
+            for (Map.Entry<String, Long> sample : runProbe().entrySet()) {
+                samples.computeIfAbsent(sample.getKey(), key -> new ArrayList<>()).add(sample.getValue());
+            }
+        }
+
+        Map<String, Long> medians = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Long>> sample : samples.entrySet()) {
+            medians.put(sample.getKey(), median(sample.getValue()));
+        }
+
+        if (update) {
+            writeBaseline(baselineFile, medians, iterations);
+            System.out.println("Wrote cold start baseline to " + baselineFile);
+            return;
+        }
+
+        Properties baseline = new Properties();
+        if (Files.exists(baselineFile)) {
+            try (Reader reader = Files.newBufferedReader(baselineFile, StandardCharsets.UTF_8)) {
+                baseline.load(reader);
+            }
+        }
+
+        List<String> failures = new ArrayList<>();
+        System.out.printf("%-24s %12s %12s %9s%n", "Metric (median of " + iterations + ")", "Current", "Baseline", "Change");
+        for (Map.Entry<String, Long> entry : medians.entrySet()) {
+            String expected = baseline.getProperty(entry.getKey());
+            String change = "";
+            if (expected != null) {
+                long base = Long.parseLong(expected.trim());
+                change = base == 0 ? "" : String.format("%+.1f%%", (entry.getValue() - base) * 100.0 / base);
+                if (entry.getKey().endsWith(".classes") && entry.getValue() > base * CLASS_TOLERANCE) {
+                    failures.add(entry.getKey() + ": " + entry.getValue() + " loaded classes, baseline " + base);
+                }
+            }
+            System.out.printf("%-24s %12d %12s %9s%n", entry.getKey(), entry.getValue(), expected == null ? "-" : expected.trim(), change);
+        }
+
+        if (!failures.isEmpty()) {
+            System.err.println("ECOLDSTART-1: Cold start regression detected.");
+            for (String failure : failures) {
+                System.err.println("  " + failure);
+            }
+            System.err.println("If the increase is intended, run ./gradlew coldStartBenchmark -PupdateColdStartBaseline and commit the baseline.");
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Long> runProbe() throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>(Arrays.asList(java, "-Djava.awt.headless=true", "-cp", System.getProperty("java.class.path"), ColdStartProbe.class.getName()));
+
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        Map<String, Long> values = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf('=');
+                if (separator > 0) {
+                    values.put(line.substring(0, separator), Long.parseLong(line.substring(separator + 1).trim()));
+                }
+            }
+        }
+
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("ECOLDSTART-2: Probe exited with " + process.exitValue() + ".");
+        }
+        return values;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static void writeBaseline(Path file, Map<String, Long> medians, int iterations) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# Cold start to first barcode, median of " + iterations + " fresh JVMs, checked by ./gradlew coldStartBenchmark\n");
+            writer.write("# Generated with ./gradlew coldStartBenchmark -PupdateColdStartBaseline on Java " + System.getProperty("java.version") + " (" + System.getProperty("os.name") + ")\n");
+            for (Map.Entry<String, Long> entry : medians.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+}
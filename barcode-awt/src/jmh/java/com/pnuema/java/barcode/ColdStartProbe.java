@@ -0,0 +1,42 @@
+package com.pnuema.java.barcode;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Runs once in a fresh JVM started by {@link ColdStartBenchmark} and prints, for each milestone on the way to the
+ * first barcode, the milliseconds since the JVM started, the number of loaded classes and the heap in use.
+ * Output lines have the form {@code milestone.metric=value}.
+ */
+public final class ColdStartProbe {
+    static final String[] MILESTONES = {"main", "encodedValue", "image", "png"};
+
+    private ColdStartProbe() {
+    }
+
+    public static void main(String[] args) {
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+        report("main", jvmStart);
+
+        //pure encoding, raw data to bars and spaces without java.awt
+        new BarcodeEncoder().encode(EncodingType.CODE128, "SKU-12345");
+        report("encodedValue", jvmStart);
+
+        Barcode barcode = new Barcode();
+        barcode.setIncludeLabel(true);
+        barcode.encode(EncodingType.CODE128, "SKU-12345");
+        report("image", jvmStart);
+
+        barcode.getImageData(Barcode.SaveTypes.PNG);
+        report("png", jvmStart);
+    }
+
+    private static void report(String milestone, long jvmStart) {
+        long millis = System.currentTimeMillis() - jvmStart;
+        int classes = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        System.out.println(milestone + ".millis=" + millis);
+        System.out.println(milestone + ".classes=" + classes);
+        System.out.println(milestone + ".heapKiB=" + heap / 1024);
+    }
+}
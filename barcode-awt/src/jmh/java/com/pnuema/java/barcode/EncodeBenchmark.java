@@ -0,0 +1,54 @@
+package com.pnuema.java.barcode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding of every payload in {@link EncodePayload}, from raw data to the string of bars and spaces.
+ * No image is generated.
+ * Run with {@code ./gradlew jmh}, allocation per operation is reported by the gc profiler configured in the build.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodeBenchmark {
+    @Param
+    public EncodePayload payload;
+
+    private final BarcodeEncoder encoder = new BarcodeEncoder();
+    private EncodingType encodingType;
+    private String data;
+
+    @Setup
+    public void setup() {
+        encodingType = payload.getEncodingType();
+        data = payload.getData();
+
+        //fail fast instead of measuring the error path, encoding errors are thrown
+        encoder.encode(encodingType, data);
+    }
+
+    /**
+     * Encodes the payload with {@link BarcodeEncoder}, the same path {@link Barcode} uses.
+     *
+     * @return Encoded value
+     */
+    @Benchmark
+    public String encode() {
+        return encoder.encode(encodingType, data).getEncodedValue();
+    }
+}
@@ -0,0 +1,92 @@
+package com.pnuema.java.barcode;
+
+/**
+ * Realistic payloads for every encoding type used by the benchmarks: short SKUs, 20 digit SSCC numbers
+ * (application identifier 00 followed by the 18 digit SSCC) and a 200+ character Code 128 payload.
+ * Modified_Plessey is not listed, MSI currently rejects it (EMSI-2).
+ */
+public enum EncodePayload {
+    UPCA_SKU(EncodingType.UPCA, "03600029145"),
+    UPCE_SKU(EncodingType.UPCE, "012345"),
+    UPC_SUPPLEMENTAL_2DIGIT_SKU(EncodingType.UPC_SUPPLEMENTAL_2DIGIT, "12"),
+    UPC_SUPPLEMENTAL_5DIGIT_SKU(EncodingType.UPC_SUPPLEMENTAL_5DIGIT, "52495"),
+    EAN13_SKU(EncodingType.EAN13, "501234567890"),
+    EAN8_SKU(EncodingType.EAN8, "9638507"),
+    Interleaved2of5_SKU(EncodingType.Interleaved2of5, "12345678"),
+    Interleaved2of5_SSCC(EncodingType.Interleaved2of5, Payloads.SSCC),
+    Interleaved2of5_Mod10_SKU(EncodingType.Interleaved2of5_Mod10, "1234567"),
+    Standard2of5_SKU(EncodingType.Standard2of5, "12345678"),
+    Standard2of5_SSCC(EncodingType.Standard2of5, Payloads.SSCC),
+    Standard2of5_Mod10_SKU(EncodingType.Standard2of5_Mod10, "12345678"),
+    IATA2of5_SKU(EncodingType.IATA2of5, "1234567890123456"),
+    Industrial2of5_SKU(EncodingType.Industrial2of5, "12345678"),
+    Industrial2of5_Mod10_SKU(EncodingType.Industrial2of5_Mod10, "12345678"),
+    CODE39_SKU(EncodingType.CODE39, "SKU-12345"),
+    CODE39Extended_SKU(EncodingType.CODE39Extended, "Sku-12345"),
+    CODE39_Mod43_SKU(EncodingType.CODE39_Mod43, "SKU-12345"),
+    Codabar_SKU(EncodingType.Codabar, "A12345678B"),
+    PostNet_ZIP(EncodingType.PostNet, "123456789"),
+    BOOKLAND_SKU(EncodingType.BOOKLAND, "978030640615"),
+    ISBN_SKU(EncodingType.ISBN, "978030640615"),
+    JAN13_SKU(EncodingType.JAN13, "491234567890"),
+    MSI_Mod10_SKU(EncodingType.MSI_Mod10, "12345678"),
+    MSI_2Mod10_SKU(EncodingType.MSI_2Mod10, "12345678"),
+    MSI_Mod11_SKU(EncodingType.MSI_Mod11, "12345678"),
+    MSI_Mod11_Mod10_SKU(EncodingType.MSI_Mod11_Mod10, "12345678"),
+    CODE11_SKU(EncodingType.CODE11, "123-45"),
+    USD8_SKU(EncodingType.USD8, "123-45"),
+    UCC12_SKU(EncodingType.UCC12, "03600029145"),
+    UCC13_SKU(EncodingType.UCC13, "501234567890"),
+    LOGMARS_SKU(EncodingType.LOGMARS, "SKU-12345"),
+    CODE128_SKU(EncodingType.CODE128, "SKU-12345"),
+    CODE128_SSCC(EncodingType.CODE128, Payloads.SSCC),
+    CODE128_LONG(EncodingType.CODE128, Payloads.LONG),
+    CODE128A_SKU(EncodingType.CODE128A, "SKU-12345"),
+    CODE128B_SKU(EncodingType.CODE128B, "Sku-12345"),
+    CODE128B_LONG(EncodingType.CODE128B, Payloads.LONG),
+    CODE128C_SSCC(EncodingType.CODE128C, Payloads.SSCC),
+    ITF14_SKU(EncodingType.ITF14, "1234567890123"),
+    CODE93_SKU(EncodingType.CODE93, "SKU-12345"),
+    TELEPEN_SKU(EncodingType.TELEPEN, "SKU-12345"),
+    FIM_A(EncodingType.FIM, "A"),
+    PHARMACODE_SKU(EncodingType.PHARMACODE, "12345");
+
+    private final EncodingType encodingType;
+    private final String data;
+
+    EncodePayload(EncodingType encodingType, String data) {
+        this.encodingType = encodingType;
+        this.data = data;
+    }
+
+    /**
+     * Gets the encoding type of the payload
+     *
+     * @return Encoding type
+     */
+    public EncodingType getEncodingType() {
+        return encodingType;
+    }
+
+    /**
+     * Gets the raw data of the payload
+     *
+     * @return Raw data
+     */
+    public String getData() {
+        return data;
+    }
+
+    private static final class Payloads {
+        private static final String SSCC = "00" + "106141411234567897";
+        private static final String LONG = initLong();
+
+        private static String initLong() {
+            StringBuilder sb = new StringBuilder();
+            while (sb.length() < 240) {
+                sb.append("Lot 4711/B, Order #").append(sb.length()).append(", Ship-To: 221B Baker St; ");
+            }
+            return sb.substring(0, 240);
+        }
+    }
+}
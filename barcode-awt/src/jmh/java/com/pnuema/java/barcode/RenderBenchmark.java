@@ -0,0 +1,63 @@
+package com.pnuema.java.barcode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Barcode#encode(EncodingType, String)}, which encodes the data and rasterizes the bars (and the
+ * label when included). The payloads cover each of the drawing paths of the image generation: ITF-14, UPC-A,
+ * EAN-13 and the generic one. Encoding alone is measured by {@link EncodeBenchmark} and the label alone by
+ * {@link LabelBenchmark}, so rasterization is what remains with the label off.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+    @Param({"CODE128_SKU", "EAN13_SKU", "UPCA_SKU", "ITF14_SKU"})
+    public EncodePayload payload;
+
+    @Param
+    public RenderSize size;
+
+    @Param({"false", "true"})
+    public boolean includeLabel;
+
+    @Param
+    public Barcode.AlignmentPositions alignment;
+
+    private Barcode barcode;
+
+    @Setup
+    public void setup() {
+        barcode = new Barcode();
+        barcode.setWidth(size.getWidth());
+        barcode.setHeight(size.getHeight());
+        barcode.setIncludeLabel(includeLabel);
+        barcode.setAlignmentPosition(alignment);
+    }
+
+    /**
+     * Encodes and draws the barcode image.
+     *
+     * @return Barcode image
+     */
+    @Benchmark
+    public Image generateImage() {
+        return barcode.encode(payload.getEncodingType(), payload.getData());
+    }
+}
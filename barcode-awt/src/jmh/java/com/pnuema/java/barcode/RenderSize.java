@@ -0,0 +1,37 @@
+package com.pnuema.java.barcode;
+
+/**
+ * Image sizes used by the rendering benchmarks, from a thumbnail to a 4 x 2 inch shipping label printed at 600 dpi.
+ */
+public enum RenderSize {
+    THUMBNAIL(200, 60),
+    SCREEN(300, 150),
+    LABEL_300DPI(1200, 600),
+    LABEL_600DPI(2400, 1200);
+
+    private final int width;
+    private final int height;
+
+    RenderSize(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Gets the width of the image in pixels
+     *
+     * @return Width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the image in pixels
+     *
+     * @return Height
+     */
+    public int getHeight() {
+        return height;
+    }
+}
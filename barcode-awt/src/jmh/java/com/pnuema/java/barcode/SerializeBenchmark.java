@@ -0,0 +1,78 @@
+package com.pnuema.java.barcode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.image.RenderedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serialization of a labeled barcode in every {@link Barcode.SaveTypes} format: the ImageIO compression
+ * of an already drawn image on its own, and {@link Barcode#getImageData(Barcode.SaveTypes)} end to end.
+ * ImageIO has no JPG or BMP writer for images with an alpha channel, so those two formats currently produce no
+ * bytes and measure only the failed writer lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+    @Param({"JPG", "BMP", "PNG", "GIF", "TIFF"})
+    public Barcode.SaveTypes format;
+
+    @Param
+    public RenderSize size;
+
+    private Barcode barcode;
+    private RenderedImage image;
+    private String formatName;
+    private ByteArrayOutputStream stream;
+
+    @Setup
+    public void setup() {
+        barcode = new Barcode();
+        barcode.setWidth(size.getWidth());
+        barcode.setHeight(size.getHeight());
+        barcode.setIncludeLabel(true);
+        image = (RenderedImage) barcode.encode(EncodePayload.CODE128_SKU.getEncodingType(), EncodePayload.CODE128_SKU.getData());
+        formatName = Barcode.getImageFormatFromFileType(format);
+        stream = new ByteArrayOutputStream(size.getWidth() * size.getHeight() * 4);
+    }
+
+    /**
+     * Compresses the drawn image into the format.
+     *
+     * @return Number of bytes written
+     * @throws IOException throws this if the image can not be written
+     */
+    @Benchmark
+    public int compress() throws IOException {
+        stream.reset();
+        ImageIO.write(image, formatName, stream);
+        return stream.size();
+    }
+
+    /**
+     * Encodes, draws and serializes the image, as callers of the library do.
+     *
+     * @return Image bytes
+     */
+    @Benchmark
+    public byte[] getImageData() {
+        return barcode.getImageData(format);
+    }
+}
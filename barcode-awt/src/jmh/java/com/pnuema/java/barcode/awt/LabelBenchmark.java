@@ -0,0 +1,125 @@
+package com.pnuema.java.barcode.awt;
+
+import com.pnuema.java.barcode.Barcode;
+import com.pnuema.java.barcode.EncodePayload;
+import com.pnuema.java.barcode.RenderSize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the label drawing of the image generation on its own: {@link LabelRenderer#labelGeneric(Barcode, Graphics2D, BufferedImage)}
+ * drawn onto an already rasterized barcode, both copied from the label strip cache and with the text drawn, and the
+ * {@link StandardizedLabelLayout#create(Barcode, String)} laying out the bars and digits of standardized EAN-13 and
+ * UPC-A labels before drawing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LabelBenchmark {
+    //more distinct labels than the label strip cache holds bands of any render size, so every one misses
+    private static final int UNCACHED_LABELS = 1024;
+
+    @Param({"CODE128_SKU", "EAN13_SKU"})
+    public EncodePayload payload;
+
+    @Param
+    public RenderSize size;
+
+    private Barcode barcode;
+    private BufferedImage image;
+    private Graphics2D graphics;
+    private Barcode uncached;
+    private BufferedImage uncachedImage;
+    private Graphics2D uncachedGraphics;
+    private String[] uncachedLabels;
+    private int nextLabel;
+    private Barcode standardized;
+
+    @Setup
+    public void setup() {
+        barcode = new Barcode();
+        barcode.setWidth(size.getWidth());
+        barcode.setHeight(size.getHeight());
+        barcode.setStandardizeLabel(false);
+        image = (BufferedImage) barcode.encode(payload.getEncodingType(), payload.getData());
+        graphics = image.createGraphics();
+
+        uncached = new Barcode();
+        uncached.setWidth(size.getWidth());
+        uncached.setHeight(size.getHeight());
+        uncached.setStandardizeLabel(false);
+        uncachedImage = (BufferedImage) uncached.encode(payload.getEncodingType(), payload.getData());
+        uncachedGraphics = uncachedImage.createGraphics();
+        //labels as long as the data, so the text takes the same width as the cached one
+        String data = uncached.getRawData();
+        uncachedLabels = new String[UNCACHED_LABELS];
+        for (int i = 0; i < UNCACHED_LABELS; i++) {
+            String suffix = String.format("%04d", i);
+            uncachedLabels[i] = data.substring(0, data.length() - suffix.length()) + suffix;
+        }
+
+        standardized = new Barcode();
+        standardized.setWidth(size.getWidth());
+        standardized.setHeight(size.getHeight());
+        standardized.encode(payload.getEncodingType(), payload.getData());
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+        uncachedGraphics.dispose();
+    }
+
+    /**
+     * Draws the generic label onto the barcode image. The label overwrites itself so the image can be reused. After the
+     * first call the band comes from the label strip cache, so this measures the cache hit: one copy of the band rows.
+     *
+     * @return Barcode image with the label
+     */
+    @Benchmark
+    public BufferedImage labelGeneric() {
+        LabelRenderer.labelGeneric(barcode, graphics, image);
+        return image;
+    }
+
+    /**
+     * Draws the generic label with a different text on every call, missing the label strip cache: the background and
+     * the text are drawn and the band is stored, as for the first barcode of a label.
+     *
+     * @return Barcode image with the label
+     */
+    @Benchmark
+    public BufferedImage labelGenericUncached() {
+        uncached.setAlternateLabel(uncachedLabels[nextLabel]);
+        nextLabel = (nextLabel + 1) % UNCACHED_LABELS;
+        LabelRenderer.labelGeneric(uncached, uncachedGraphics, uncachedImage);
+        return uncachedImage;
+    }
+
+    /**
+     * Lays out the standardized label for the image size. Payloads without a standardized label measure the rejection.
+     *
+     * @return Layout, or null if the label is not standardized
+     */
+    @Benchmark
+    public StandardizedLabelLayout layoutStandardized() {
+        return StandardizedLabelLayout.create(standardized, standardized.getEncodedValue());
+    }
+}
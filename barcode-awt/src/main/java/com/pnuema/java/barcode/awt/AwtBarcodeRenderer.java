@@ -0,0 +1,343 @@
+package com.pnuema.java.barcode.awt;
+
+import com.pnuema.java.barcode.Barcode;
+import com.pnuema.java.barcode.BarcodeRenderer;
+import com.pnuema.java.barcode.EncodingType;
+import com.pnuema.java.barcode.Labels.LabelPositions;
+import com.pnuema.java.barcode.metrics.EncodeEvent;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.ImageWriterSpi;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.RenderedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Draws barcodes with Java 2D into ARGB images and writes them with ImageIO. This is the renderer {@link Barcode}
+ * uses unless another one is registered.
+ */
+@SuppressWarnings("DuplicatedCode")
+public class AwtBarcodeRenderer implements BarcodeRenderer {
+    //writer providers by format name, looked up in the ImageIO registry once instead of on every write
+    private final ConcurrentHashMap<String, List<ImageWriterSpi>> writerProviders = new ConcurrentHashMap<>();
+
+    /**
+     * Gets a bitmap representation of the encoded data
+     *
+     * @param barcode Encoded barcode to draw
+     * @param stages  Notified at the end of the layout, rasterize and (when a label is drawn) label stages
+     * @return Bitmap of encoded value
+     */
+    @Override
+    public BufferedImage render(Barcode barcode, Consumer<EncodeEvent.Stage> stages) {
+        RenderTarget target = RenderTarget.newImage();
+        render(barcode, target, stages);
+        return target.getImage();
+    }
+
+    /**
+     * Draws the encoded data into an area of an image, writing the pixels of the image in place.
+     *
+     * @param barcode Encoded barcode to draw
+     * @param target  Image to draw on
+     * @param x       Left edge of the barcode in the image
+     * @param y       Top edge of the barcode in the image
+     * @param stages  Notified at the end of the layout, rasterize and (when a label is drawn) label stages
+     */
+    @Override
+    public void render(Barcode barcode, BufferedImage target, int x, int y, Consumer<EncodeEvent.Stage> stages) {
+        render(barcode, RenderTarget.of(target, x, y), stages);
+    }
+
+    /**
+     * Draws the encoded data through a graphics, translated to a position and clipped to the size of the barcode.
+     *
+     * @param barcode Encoded barcode to draw
+     * @param g       Graphics to draw with, left as it is
+     * @param x       Left edge of the barcode in the user space of the graphics
+     * @param y       Top edge of the barcode in the user space of the graphics
+     * @param stages  Notified at the end of the layout, rasterize and (when a label is drawn) label stages
+     */
+    @Override
+    public void render(Barcode barcode, Graphics2D g, int x, int y, Consumer<EncodeEvent.Stage> stages) {
+        render(barcode, RenderTarget.of(g, x, y), stages);
+    }
+
+    //EAN-13 and UPC-A fall through to the generic drawing when the standardized label does not apply
+    @SuppressWarnings({"SuspiciousNameCombination", "fallthrough"})
+    private static void render(Barcode barcode, RenderTarget target, Consumer<EncodeEvent.Stage> stages) {
+        String encodedValue = barcode.getEncodedValue();
+
+        switch (barcode.getEncodedType()) {
+            case ITF14: {
+                // Automatically calculate the Width if applicable. Quite confusing with this
+                // barcode type, and it seems this method overestimates the minimum width. But
+                // at least it's deterministic and doesn't produce too small of a value.
+                if (barcode.getBarWidth() != null) {
+                    barcode.setWidth((int) (241 / 176.9 * encodedValue.length() * barcode.getBarWidth() + 1));
+                }
+
+                if (barcode.getAspectRatio() != null) {
+                    barcode.setHeight((int)(barcode.getWidth() / barcode.getAspectRatio()));
+                }
+
+                int ILHeight = barcode.getHeight();
+                if (barcode.isIncludeLabel()) {
+                    ILHeight -= barcode.getLabelFont().getSize();
+                }
+
+                stages.accept(EncodeEvent.Stage.LAYOUT);
+
+                int bearerwidth = (int) ((barcode.getWidth()) / 12.05);
+                int iquietzone = (int) Math.round(barcode.getWidth() * 0.05);
+                int iBarWidth = (barcode.getWidth() - (bearerwidth * 2) - (iquietzone * 2)) / encodedValue.length();
+                int shiftAdjustment = ((barcode.getWidth() - (bearerwidth * 2) - (iquietzone * 2)) % encodedValue.length()) / 2;
+
+                if (iBarWidth <= 0 || iquietzone <= 0) {
+                    throw new IllegalArgumentException("EGENERATE_IMAGE-3: Image size specified not large enough to draw image. (Bar size determined to be less than 1 pixel or quiet zone determined to be less than 1 pixel)");
+                }
+
+                Graphics2D g = target.open(barcode.getWidth(), barcode.getHeight(), barcode.getOrientation());
+
+                //draw image
+                int pos = 0;
+
+                try {
+                    //fill background
+                    g.setColor(barcode.getBackColor());
+                    g.fillRect(0, 0, barcode.getWidth(), barcode.getHeight());
+
+                    //lines are fBarWidth wide so draw the appropriate color line vertically
+                    g.setColor(barcode.getForeColor());
+
+                    while (pos < encodedValue.length()) {
+                        //draw the appropriate color line vertically
+                        if (encodedValue.charAt(pos) == '1') {
+                            g.fillRect((pos * iBarWidth) + shiftAdjustment + bearerwidth + iquietzone, 0, iBarWidth, barcode.getHeight());
+                        }
+
+                        pos++;
+                    }
+
+                    //bearer bars
+                    int bearerBarWidth = ILHeight / 8;
+
+                    g.fillRect(0, 0, barcode.getWidth(), bearerBarWidth);//top
+                    g.fillRect(0, ILHeight - bearerBarWidth, barcode.getWidth(), bearerBarWidth);//bottom
+                    g.fillRect(0, 0, bearerBarWidth, ILHeight);//left
+                    g.fillRect(barcode.getWidth() - bearerBarWidth, bearerBarWidth, barcode.getWidth(), ILHeight);//right
+                    stages.accept(EncodeEvent.Stage.RASTERIZE);
+
+                    if (barcode.isIncludeLabel()) {
+                        LabelRenderer.labelGeneric(barcode, g, target.getDirectImage());
+                        stages.accept(EncodeEvent.Stage.LABEL);
+                    }
+                } finally {
+                    g.dispose();
+                }
+
+                break;
+            }
+            case UPCA:
+            case EAN13: {
+                if (StandardizedLabelLayout.isStandardized(barcode)) {
+                    if (renderStandardized(barcode, encodedValue, target, stages)) {
+                        break;
+                    }
+                }
+                //without the standardized label they are drawn like every other symbology
+            }
+            default: {
+                // Automatically calculate Width if applicable.
+                if (barcode.getBarWidth() != null) {
+                    barcode.setWidth(barcode.getBarWidth() * encodedValue.length());
+                }
+
+                // Automatically calculate Height if applicable.
+                if (barcode.getAspectRatio() != null) {
+                    barcode.setHeight((int) (barcode.getWidth() / barcode.getAspectRatio()));
+                }
+
+                int ILHeight = barcode.getHeight();
+                int topLabelAdjustment = 0;
+
+                if (barcode.isIncludeLabel()) {
+                    // Shift drawing down if top label.
+                    if (barcode.getLabelPosition() == LabelPositions.TOP)
+                        topLabelAdjustment = barcode.getLabelFont().getSize();
+
+                    ILHeight -= barcode.getLabelFont().getSize();
+                }
+
+
+                stages.accept(EncodeEvent.Stage.LAYOUT);
+                Graphics2D g = target.open(barcode.getWidth(), barcode.getHeight(), barcode.getOrientation());
+                int iBarWidth = barcode.getWidth() / encodedValue.length();
+                int shiftAdjustment;
+
+                //set alignment
+                shiftAdjustment = getShiftAdjustment(barcode);
+
+                //draw image
+                int pos = 0;
+
+                try {
+                    if (iBarWidth <= 0) {
+                        throw new IllegalArgumentException("EGENERATE_IMAGE-2: Image size specified not large enough to draw image. (Bar size determined to be less than 1 pixel)");
+                    }
+
+                    //clears the image and colors the entire background
+                    g.setColor(barcode.getBackColor());
+                    g.fillRect(0, 0, barcode.getWidth(), barcode.getHeight());
+
+                    g.setColor(barcode.getForeColor());
+
+                    while (pos < encodedValue.length()) {
+                        if (barcode.getEncodedType() == EncodingType.PostNet) {
+                            //draw half bars in postnet
+                            if (encodedValue.charAt(pos) == '0') {
+                                g.fillRect(pos * iBarWidth + shiftAdjustment, (int) (ILHeight - ILHeight * 0.4f) + topLabelAdjustment, iBarWidth / 2, (int) (ILHeight - ILHeight * 0.4f) + topLabelAdjustment);
+                            } else {
+                                g.fillRect(pos * iBarWidth + shiftAdjustment, topLabelAdjustment, iBarWidth / 2, ILHeight + topLabelAdjustment);
+                            }
+                        } else {
+                            if (encodedValue.charAt(pos) == '1') {
+                                g.fillRect(pos * iBarWidth + shiftAdjustment, topLabelAdjustment, iBarWidth, ILHeight + topLabelAdjustment);
+                            }
+                        }
+                        pos++;
+                    }
+                    stages.accept(EncodeEvent.Stage.RASTERIZE);
+
+                    if (barcode.isIncludeLabel()) {
+                        LabelRenderer.labelGeneric(barcode, g, target.getDirectImage());
+                        stages.accept(EncodeEvent.Stage.LABEL);
+                    }
+                } finally {
+                    g.dispose();
+                }
+
+                break;
+            }
+        }
+    }
+
+    /**
+     * Writes an image with the first ImageIO writer for the format that can encode it, as ImageIO.write does.
+     *
+     * @param image      Image to write
+     * @param formatName Informal name of the format (png, jpg, bmp, gif or tif)
+     * @param stream     Stream to write the image to, left open
+     * @return Number of bytes written, 0 if no writer supports the image
+     * @throws IOException throws this if writing to the stream causes an Exception
+     */
+    @Override
+    public long write(RenderedImage image, String formatName, OutputStream stream) throws IOException {
+        ImageWriterSpi provider = getWriterProvider(image, formatName);
+        if (provider == null) {
+            return 0;
+        }
+
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(stream)) {
+            ImageWriter writer = provider.createWriterInstance();
+            try {
+                writer.setOutput(output);
+                writer.write(image);
+            } finally {
+                writer.dispose();
+                output.flush();
+            }
+            return output.getStreamPosition();
+        }
+    }
+
+    private ImageWriterSpi getWriterProvider(RenderedImage image, String formatName) {
+        List<ImageWriterSpi> providers = writerProviders.computeIfAbsent(formatName, name -> {
+            List<ImageWriterSpi> found = new ArrayList<>();
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(name);
+            while (writers.hasNext()) {
+                found.add(writers.next().getOriginatingProvider());
+            }
+            return found;
+        });
+
+        ImageTypeSpecifier type = ImageTypeSpecifier.createFromRenderedImage(image);
+        for (ImageWriterSpi provider : providers) {
+            if (provider.canEncodeImage(type)) {
+                return provider;
+            }
+        }
+        return null;
+    }
+
+    //EAN-13 and UPC-A with the standardized label, bars and digits drawn in one pass. False if the image is too small
+    private static boolean renderStandardized(Barcode barcode, String encodedValue, RenderTarget target, Consumer<EncodeEvent.Stage> stages) {
+        // Automatically calculate Width if applicable, the quiet zones hold the digits outside the guards.
+        if (barcode.getBarWidth() != null) {
+            barcode.setWidth(barcode.getBarWidth() * StandardizedLabelLayout.getTotalModules(barcode.getEncodedType()));
+        }
+
+        // Automatically calculate Height if applicable.
+        if (barcode.getAspectRatio() != null) {
+            barcode.setHeight((int) (barcode.getWidth() / barcode.getAspectRatio()));
+        }
+
+        StandardizedLabelLayout layout = StandardizedLabelLayout.create(barcode, encodedValue);
+        if (layout == null) {
+            return false;
+        }
+
+        stages.accept(EncodeEvent.Stage.LAYOUT);
+        Graphics2D g = target.open(barcode.getWidth(), barcode.getHeight(), barcode.getOrientation());
+        try {
+            //clears the image and colors the entire background
+            g.setColor(barcode.getBackColor());
+            g.fillRect(0, 0, barcode.getWidth(), barcode.getHeight());
+
+            //guard bars run down between the digit groups
+            g.setColor(barcode.getForeColor());
+            int moduleWidth = layout.getModuleWidth();
+            for (int pos = 0; pos < encodedValue.length(); pos++) {
+                if (encodedValue.charAt(pos) == '1') {
+                    g.fillRect(layout.getBarsLeft() + pos * moduleWidth, 0, moduleWidth, layout.getBarBottom(pos));
+                }
+            }
+            stages.accept(EncodeEvent.Stage.RASTERIZE);
+
+            layout.drawDigits(g, target.getDirectImage(), barcode);
+            stages.accept(EncodeEvent.Stage.LABEL);
+        } finally {
+            g.dispose();
+        }
+
+        return true;
+    }
+
+    private static int getShiftAdjustment(Barcode barcode) {
+        int shiftAdjustment;
+        switch (barcode.getAlignmentPosition()) {
+            case LEFT:
+                shiftAdjustment = 0;
+                break;
+            case RIGHT:
+                shiftAdjustment = (barcode.getWidth() % barcode.getEncodedValue().length());
+                break;
+            case CENTER:
+            default:
+                shiftAdjustment = (barcode.getWidth() % barcode.getEncodedValue().length()) / 2;
+                break;
+        }
+
+        return shiftAdjustment;
+    }
+}
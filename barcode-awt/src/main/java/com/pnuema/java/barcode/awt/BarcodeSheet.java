@@ -0,0 +1,449 @@
+package com.pnuema.java.barcode.awt;
+
+import com.pnuema.java.barcode.Barcode;
+import com.pnuema.java.barcode.BarcodeRenderer;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Imposes barcodes N-up on sheets: a page of a fixed pixel size divided into a grid of equally sized cells, filled
+ * row by row from a stream of barcodes. Every barcode is drawn straight into its cell of the page raster, through an
+ * image of the cell alone so it can never draw over its neighbours, and the rows of cells of a page are drawn in
+ * parallel as horizontal tiles. Finished pages are handed to a sink, or written with
+ * the renderer in one of the {@link Barcode.SaveTypes}.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class BarcodeSheet {
+    //writes the pages unless another renderer is set, sharing its cache of image writers between sheets
+    private static final BarcodeRenderer DEFAULT_RENDERER = new AwtBarcodeRenderer();
+
+    /**
+     * Receives the pages of a sheet run as they are finished.
+     */
+    public interface PageSink {
+        /**
+         * Accepts one page.
+         *
+         * @param pageIndex Index of the page, 0 for the first
+         * @param page      Image of the page. The image is reused for the next page once this method returns
+         * @throws IOException if the page cannot be consumed
+         */
+        void accept(int pageIndex, BufferedImage page) throws IOException;
+    }
+
+    /**
+     * Opens the streams pages are written to.
+     */
+    public interface PageStreams {
+        /**
+         * Opens the stream of one page.
+         *
+         * @param pageIndex Index of the page, 0 for the first
+         * @return Stream to write the page to, closed once the page is written
+         * @throws IOException if the stream cannot be opened
+         */
+        OutputStream open(int pageIndex) throws IOException;
+    }
+
+    /**
+     * Common paper sizes, to size pages at a resolution.
+     */
+    public enum Paper {
+        /**
+         * ISO A4, 210 x 297 mm.
+         */
+        A4(210 / 25.4, 297 / 25.4),
+        /**
+         * US Letter, 8.5 x 11 inches.
+         */
+        LETTER(8.5, 11);
+
+        private final double widthInches;
+        private final double heightInches;
+
+        Paper(double widthInches, double heightInches) {
+            this.widthInches = widthInches;
+            this.heightInches = heightInches;
+        }
+
+        /**
+         * Gets the width of the paper at a resolution
+         *
+         * @param dpi Dots per inch
+         * @return Width in pixels
+         */
+        public int getWidth(int dpi) {
+            return (int) Math.round(widthInches * dpi);
+        }
+
+        /**
+         * Gets the height of the paper at a resolution
+         *
+         * @param dpi Dots per inch
+         * @return Height in pixels
+         */
+        public int getHeight(int dpi) {
+            return (int) Math.round(heightInches * dpi);
+        }
+    }
+
+    private final int pageWidth;
+    private final int pageHeight;
+    private final int columns;
+    private final int rows;
+    private int margin;
+    private int gutter;
+    private Color backColor = Color.WHITE;
+    private Executor executor;
+    private BarcodeRenderer renderer;
+
+    /**
+     * Constructor.
+     *
+     * @param pageWidth  Width of a page (pixels)
+     * @param pageHeight Height of a page (pixels)
+     * @param columns    Number of cells across a page
+     * @param rows       Number of cells down a page
+     */
+    public BarcodeSheet(int pageWidth, int pageHeight, int columns, int rows) {
+        this.pageWidth = pageWidth;
+        this.pageHeight = pageHeight;
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param paper   Paper size of a page
+     * @param dpi     Resolution of a page (dots per inch)
+     * @param columns Number of cells across a page
+     * @param rows    Number of cells down a page
+     */
+    public BarcodeSheet(Paper paper, int dpi, int columns, int rows) {
+        this(paper.getWidth(dpi), paper.getHeight(dpi), columns, rows);
+    }
+
+    /**
+     * Gets the width of a page
+     *
+     * @return Width in pixels
+     */
+    public int getPageWidth() {
+        return pageWidth;
+    }
+
+    /**
+     * Gets the height of a page
+     *
+     * @return Height in pixels
+     */
+    public int getPageHeight() {
+        return pageHeight;
+    }
+
+    /**
+     * Gets the number of cells across a page
+     *
+     * @return Columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the number of cells down a page
+     *
+     * @return Rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the space between the edges of the page and the cells. (Default is 0)
+     *
+     * @return Margin in pixels
+     */
+    public int getMargin() {
+        return margin;
+    }
+
+    /**
+     * Sets the space between the edges of the page and the cells. (Default is 0)
+     *
+     * @param margin Margin in pixels
+     */
+    public void setMargin(int margin) {
+        this.margin = margin;
+    }
+
+    /**
+     * Gets the space between neighbouring cells. (Default is 0)
+     *
+     * @return Gutter in pixels
+     */
+    public int getGutter() {
+        return gutter;
+    }
+
+    /**
+     * Sets the space between neighbouring cells. (Default is 0)
+     *
+     * @param gutter Gutter in pixels
+     */
+    public void setGutter(int gutter) {
+        this.gutter = gutter;
+    }
+
+    /**
+     * Gets the color of the page outside the barcodes. (Default is White)
+     *
+     * @return Page color
+     */
+    public Color getBackColor() {
+        return backColor;
+    }
+
+    /**
+     * Sets the color of the page outside the barcodes. (Default is White)
+     *
+     * @param backColor Page color
+     */
+    public void setBackColor(Color backColor) {
+        this.backColor = backColor;
+    }
+
+    /**
+     * Gets the executor the tiles of a page are drawn on. (Default is null, the common fork join pool)
+     *
+     * @return Executor, null for the common pool
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor the tiles of a page are drawn on. (Default is null, the common fork join pool)
+     *
+     * @param executor Executor, null for the common pool
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the renderer pages are written with
+     *
+     * @return Renderer set on this instance, otherwise an {@link AwtBarcodeRenderer}
+     */
+    public BarcodeRenderer getRenderer() {
+        return renderer != null ? renderer : DEFAULT_RENDERER;
+    }
+
+    /**
+     * Sets the renderer pages are written with. (Default is null, an {@link AwtBarcodeRenderer})
+     *
+     * @param renderer Renderer, null for the default
+     */
+    public void setRenderer(BarcodeRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Gets the width of a cell, the width every barcode is drawn with
+     *
+     * @return Width in pixels
+     */
+    public int getCellWidth() {
+        return (pageWidth - 2 * margin - (columns - 1) * gutter) / columns;
+    }
+
+    /**
+     * Gets the height of a cell, the height every barcode is drawn with
+     *
+     * @return Height in pixels
+     */
+    public int getCellHeight() {
+        return (pageHeight - 2 * margin - (rows - 1) * gutter) / rows;
+    }
+
+    /**
+     * Draws barcodes onto as many pages as they fill and hands every page to a sink. Each barcode must have its
+     * encoding type and raw data set, and is drawn with its own colors, label settings and orientation filling a cell:
+     * its width and height are set to the cell and its bar width and aspect ratio are cleared, so the size is not
+     * calculated past the cell. Barcodes are encoded on the tile threads, so no two of them may be the same instance.
+     *
+     * @param barcodes Barcodes in the order they fill the cells, row by row
+     * @param sink     Receives each finished page
+     * @return Number of pages
+     * @throws IOException if the sink fails to consume a page
+     */
+    public int compose(Iterator<Barcode> barcodes, PageSink sink) throws IOException {
+        return compose(barcodes, BufferedImage.TYPE_INT_ARGB, sink);
+    }
+
+    /**
+     * Draws barcodes onto as many pages as they fill and writes every page in a file format with the renderer of the
+     * sheet. Pages of formats without alpha (JPG and BMP) are drawn opaque, on the back color without its alpha.
+     *
+     * @param barcodes Barcodes in the order they fill the cells, row by row
+     * @param saveType File type to write the pages in
+     * @param streams  Opens the stream of each page
+     * @return Number of pages
+     * @throws IOException if a page cannot be written, or the renderer has no writer for the page in the format
+     */
+    public int compose(Iterator<Barcode> barcodes, Barcode.SaveTypes saveType, PageStreams streams) throws IOException {
+        BarcodeRenderer pageRenderer = getRenderer();
+        String formatName = getFormatName(saveType);
+        boolean opaque = "jpg".equals(formatName) || "bmp".equals(formatName);
+        return compose(barcodes, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB, (pageIndex, page) -> {
+            try (OutputStream stream = streams.open(pageIndex)) {
+                if (pageRenderer.write(page, formatName, stream) == 0) {
+                    throw new IOException("ESHEET-3: No " + formatName + " writer for page " + pageIndex + ".");
+                }
+            }
+        });
+    }
+
+    private int compose(Iterator<Barcode> barcodes, int imageType, PageSink sink) throws IOException {
+        checkCells();
+
+        BufferedImage page = null;
+        int pageIndex = 0;
+        while (barcodes.hasNext()) {
+            List<Barcode> cells = new ArrayList<>(columns * rows);
+            while (cells.size() < columns * rows && barcodes.hasNext()) {
+                cells.add(barcodes.next());
+            }
+
+            if (page == null) {
+                page = new BufferedImage(pageWidth, pageHeight, imageType);
+            }
+            drawPage(page, cells);
+            sink.accept(pageIndex++, page);
+        }
+
+        return pageIndex;
+    }
+
+    /**
+     * Draws the barcodes of one page through a graphics, such as the graphics of a printer page, leaving the rest of the
+     * barcodes for the next page. Each barcode is fitted to its cell as in {@link #compose(Iterator, PageSink)} and
+     * drawn clipped to it. Graphics are not shared between threads, so the cells are drawn one after another.
+     *
+     * @param g        Graphics of the page, with the top left corner of the page at 0, 0
+     * @param barcodes Barcodes in the order they fill the cells, row by row
+     * @return Number of barcodes drawn
+     */
+    public int composePage(Graphics2D g, Iterator<Barcode> barcodes) {
+        checkCells();
+
+        int cellWidth = getCellWidth();
+        int cellHeight = getCellHeight();
+        int drawn = 0;
+        while (drawn < columns * rows && barcodes.hasNext()) {
+            Barcode barcode = barcodes.next();
+            fitCell(barcode, cellWidth, cellHeight);
+
+            Graphics2D cell = (Graphics2D) g.create(margin + (drawn % columns) * (cellWidth + gutter), margin + (drawn / columns) * (cellHeight + gutter), cellWidth, cellHeight);
+            try {
+                barcode.encode(barcode.getEncodedType(), barcode.getRawData(), cell, 0, 0);
+            } finally {
+                cell.dispose();
+            }
+            drawn++;
+        }
+
+        return drawn;
+    }
+
+    //the format names Barcode writes its images with
+    private static String getFormatName(Barcode.SaveTypes saveType) {
+        switch (saveType) {
+            case BMP:
+                return "bmp";
+            case GIF:
+                return "gif";
+            case PNG:
+                return "png";
+            case TIFF:
+                return "tif";
+            case JPG:
+            default:
+                return "jpg";
+        }
+    }
+
+    //the renderer would size the barcode from its bar width or aspect ratio instead of the cell; barcodes turned a quarter take the width of the cell as their height
+    private static void fitCell(Barcode barcode, int cellWidth, int cellHeight) {
+        barcode.setBarWidth(null);
+        barcode.setAspectRatio(null);
+        boolean quarterTurn = barcode.getOrientation() == Barcode.Orientations.ROTATE_90 || barcode.getOrientation() == Barcode.Orientations.ROTATE_270;
+        barcode.setWidth(quarterTurn ? cellHeight : cellWidth);
+        barcode.setHeight(quarterTurn ? cellWidth : cellHeight);
+    }
+
+    private void checkCells() {
+        if (columns <= 0 || rows <= 0 || getCellWidth() <= 0 || getCellHeight() <= 0) {
+            throw new IllegalArgumentException("ESHEET-1: Page too small for " + columns + "x" + rows + " cells of at least one pixel.");
+        }
+    }
+
+    //clears the page and draws every row of cells as its own tile: the band of the page from the top of the row to the top of the next
+    private void drawPage(BufferedImage page, List<Barcode> cells) {
+        int cellWidth = getCellWidth();
+        int cellHeight = getCellHeight();
+
+        CompletableFuture<?>[] tiles = new CompletableFuture<?>[rows];
+        for (int row = 0; row < rows; row++) {
+            int tileTop = row == 0 ? 0 : margin + row * (cellHeight + gutter);
+            int tileBottom = row == rows - 1 ? pageHeight : margin + (row + 1) * (cellHeight + gutter);
+            int first = row * columns;
+            int last = Math.min(cells.size(), first + columns);
+            int cellTop = margin + row * (cellHeight + gutter);
+
+            Runnable tile = () -> {
+                //each tile draws through images of its own band and cells, sharing only the raster of the page
+                Graphics2D g = page.getSubimage(0, tileTop, pageWidth, tileBottom - tileTop).createGraphics();
+                try {
+                    g.setColor(backColor);
+                    g.setComposite(AlphaComposite.Src);
+                    g.fillRect(0, 0, pageWidth, tileBottom - tileTop);
+                } finally {
+                    g.dispose();
+                }
+
+                for (int i = first; i < last; i++) {
+                    Barcode barcode = cells.get(i);
+                    fitCell(barcode, cellWidth, cellHeight);
+                    BufferedImage cell = page.getSubimage(margin + (i - first) * (cellWidth + gutter), cellTop, cellWidth, cellHeight);
+                    barcode.encode(barcode.getEncodedType(), barcode.getRawData(), cell, 0, 0);
+                }
+            };
+            tiles[row] = CompletableFuture.runAsync(tile, executor == null ? ForkJoinPool.commonPool() : executor);
+        }
+
+        try {
+            CompletableFuture.allOf(tiles).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw new IllegalStateException("ESHEET-2: Could not draw page. " + ex.getCause().getMessage(), ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.pnuema.java.barcode.awt;
+
+import com.pnuema.java.barcode.font.GlyphCoverage;
+import com.pnuema.java.barcode.font.OcrB;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+
+/**
+ * Antialiased glyphs of the printable ASCII characters of one font, rasterized once into a single coverage tile sheet
+ * and copied into label images instead of being drawn with drawString every time.
+ * The glyphs are blended into the image the way the Java 2D antialiased text loop blends them into an opaque integer
+ * ARGB image, so text copied from the atlas of a font is identical to text drawn with drawString. Atlases of the
+ * embedded OCR-B font are rasterized by {@link OcrB} instead.
+ */
+final class GlyphAtlas {
+    static final char FIRST = ' ';
+    static final char LAST = '~';
+
+    //coverage of every glyph one after another, each a tile of width x height values from 0 (no ink) to 255
+    private byte[] coverage;
+    private final int[] offset = new int[LAST - FIRST + 1];
+    private final int[] left = new int[LAST - FIRST + 1];
+    private final int[] top = new int[LAST - FIRST + 1];
+    private final int[] width = new int[LAST - FIRST + 1];
+    private final int[] height = new int[LAST - FIRST + 1];
+    private final int[] advance = new int[LAST - FIRST + 1];
+    private int maxWidth;
+    //rows above and below the baseline any glyph reaches
+    private int maxAbove;
+    private int maxBelow;
+
+    private GlyphAtlas() {
+    }
+
+    /**
+     * Rasterizes the glyphs of a font with Java 2D, as drawString draws them on a label
+     *
+     * @param font Font of the glyphs
+     * @return Glyph atlas of the font
+     */
+    static GlyphAtlas forFont(Font font) {
+        GlyphAtlas atlas = new GlyphAtlas();
+        byte[][] tiles = new byte[LAST - FIRST + 1][];
+
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D measure = scratch.createGraphics();
+        measure.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        FontRenderContext frc = measure.getFontRenderContext();
+        FontMetrics metrics = measure.getFontMetrics(font);
+        measure.dispose();
+
+        for (char c = FIRST; c <= LAST; c++) {
+            int i = c - FIRST;
+            atlas.advance[i] = metrics.charWidth(c);
+            tiles[i] = new byte[0];
+
+            //draw the glyph with a pixel to spare around its bounds and keep the rows and columns that got ink
+            GlyphVector glyph = font.createGlyphVector(frc, String.valueOf(c));
+            Rectangle bounds = glyph.getPixelBounds(frc, 0, 0);
+            if (bounds.isEmpty()) {
+                continue;
+            }
+
+            int w = bounds.width + 2;
+            int h = bounds.height + 2;
+            int originX = 1 - bounds.x;
+            int originY = 1 - bounds.y;
+            BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setColor(Color.WHITE);
+            g.setFont(font);
+            g.drawString(String.valueOf(c), originX, originY);
+            g.dispose();
+
+            int[] argb = image.getRGB(0, 0, w, h, null, 0, w);
+            int minX = w, minY = h, maxX = -1, maxY = -1;
+            for (int y = 0; y < h; y++) {
+                for (int x = 0; x < w; x++) {
+                    if ((argb[y * w + x] >>> 24) != 0) {
+                        minX = Math.min(minX, x);
+                        maxX = Math.max(maxX, x);
+                        minY = Math.min(minY, y);
+                        maxY = Math.max(maxY, y);
+                    }
+                }
+            }
+            if (maxX < 0) {
+                continue;
+            }
+
+            int tileWidth = maxX - minX + 1;
+            int tileHeight = maxY - minY + 1;
+            byte[] tile = new byte[tileWidth * tileHeight];
+            for (int y = 0; y < tileHeight; y++) {
+                for (int x = 0; x < tileWidth; x++) {
+                    tile[y * tileWidth + x] = (byte) (argb[(minY + y) * w + minX + x] >>> 24);
+                }
+            }
+            tiles[i] = tile;
+            atlas.setBounds(i, minX - originX, minY - originY, tileWidth, tileHeight);
+        }
+
+        atlas.pack(tiles);
+        return atlas;
+    }
+
+    /**
+     * Rasterizes the glyphs of the embedded OCR-B font, without the AWT font stack
+     *
+     * @param size Size in pixels per em
+     * @return Glyph atlas of the embedded font at the size
+     */
+    static GlyphAtlas forOcrB(int size) {
+        GlyphAtlas atlas = new GlyphAtlas();
+        byte[][] tiles = new byte[LAST - FIRST + 1][];
+
+        for (char c = FIRST; c <= LAST; c++) {
+            int i = c - FIRST;
+            atlas.advance[i] = OcrB.getAdvance(size);
+
+            GlyphCoverage glyph = OcrB.rasterize(c, size);
+            byte[] tile = new byte[glyph.getWidth() * glyph.getHeight()];
+            for (int y = 0; y < glyph.getHeight(); y++) {
+                for (int x = 0; x < glyph.getWidth(); x++) {
+                    tile[y * glyph.getWidth() + x] = (byte) glyph.getCoverage(x, y);
+                }
+            }
+            tiles[i] = tile;
+            if (tile.length > 0) {
+                atlas.setBounds(i, glyph.getLeft(), glyph.getTop(), glyph.getWidth(), glyph.getHeight());
+            }
+        }
+
+        atlas.pack(tiles);
+        return atlas;
+    }
+
+    private void setBounds(int i, int tileLeft, int tileTop, int tileWidth, int tileHeight) {
+        left[i] = tileLeft;
+        top[i] = tileTop;
+        width[i] = tileWidth;
+        height[i] = tileHeight;
+        maxWidth = Math.max(maxWidth, tileWidth);
+        maxAbove = Math.max(maxAbove, -tileTop);
+        maxBelow = Math.max(maxBelow, tileTop + tileHeight);
+    }
+
+    //puts the tiles one after another into the tile sheet
+    private void pack(byte[][] tiles) {
+        int size = 0;
+        for (byte[] tile : tiles) {
+            size += tile.length;
+        }
+
+        coverage = new byte[size];
+        int position = 0;
+        for (int i = 0; i < tiles.length; i++) {
+            offset[i] = position;
+            System.arraycopy(tiles[i], 0, coverage, position, tiles[i].length);
+            position += tiles[i].length;
+        }
+    }
+
+    /**
+     * Gets whether every character of the text has a glyph in the atlas
+     *
+     * @param text Text to draw
+     * @return True if the atlas can draw the text
+     */
+    static boolean canDraw(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < FIRST || c > LAST) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the first row any glyph of the text has ink on
+     *
+     * @param text Text to draw, only characters {@link #canDraw(String)} accepts
+     * @return Rows relative to the baseline, negative above it
+     */
+    int getInkTop(String text) {
+        int inkTop = Integer.MAX_VALUE;
+        for (int c = 0; c < text.length(); c++) {
+            int i = text.charAt(c) - FIRST;
+            if (height[i] > 0) {
+                inkTop = Math.min(inkTop, top[i]);
+            }
+        }
+        return inkTop;
+    }
+
+    /**
+     * Gets the row after the last one any glyph of the text has ink on
+     *
+     * @param text Text to draw, only characters {@link #canDraw(String)} accepts
+     * @return Rows relative to the baseline, negative above it
+     */
+    int getInkBottom(String text) {
+        int inkBottom = Integer.MIN_VALUE;
+        for (int c = 0; c < text.length(); c++) {
+            int i = text.charAt(c) - FIRST;
+            if (height[i] > 0) {
+                inkBottom = Math.max(inkBottom, top[i] + height[i]);
+            }
+        }
+        return inkBottom;
+    }
+
+    /**
+     * Copies the glyphs of the text into an opaque integer ARGB image, blended over the pixels already there.
+     *
+     * @param img   Image to draw on, every pixel the text covers must be opaque
+     * @param text  Text to draw, only characters {@link #canDraw(String)} accepts
+     * @param x     X coordinate of the baseline start, rounded to a pixel like drawString does
+     * @param y     Y coordinate of the baseline, rounded to a pixel like drawString does
+     * @param color Opaque color of the text
+     */
+    void draw(BufferedImage img, String text, float x, float y, Color color) {
+        WritableRaster raster = img.getRaster();
+        int imageWidth = raster.getWidth();
+        int imageHeight = raster.getHeight();
+        int foreground = color.getRGB();
+        int foreR = (foreground >> 16) & 0xff;
+        int foreG = (foreground >> 8) & 0xff;
+        int foreB = foreground & 0xff;
+
+        int[] row = new int[maxWidth];
+        int penX = (int) Math.floor(x + 0.5f);
+        int baseline = (int) Math.floor(y + 0.5f);
+
+        for (int c = 0; c < text.length(); c++) {
+            int i = text.charAt(c) - FIRST;
+            int glyphX = penX + left[i];
+            int glyphY = baseline + top[i];
+            penX += advance[i];
+
+            //clip the tile to the image
+            int fromX = Math.max(0, -glyphX);
+            int toX = Math.min(width[i], imageWidth - glyphX);
+            int fromY = Math.max(0, -glyphY);
+            int toY = Math.min(height[i], imageHeight - glyphY);
+            if (fromX >= toX || fromY >= toY) {
+                continue;
+            }
+
+            int w = toX - fromX;
+            for (int ty = fromY; ty < toY; ty++) {
+                raster.getDataElements(glyphX + fromX, glyphY + ty, w, 1, row);
+                int tileRow = offset[i] + ty * width[i];
+                for (int tx = 0; tx < w; tx++) {
+                    int mix = coverage[tileRow + fromX + tx] & 0xff;
+                    if (mix == 0xff) {
+                        row[tx] = foreground;
+                    } else if (mix != 0) {
+                        int back = row[tx];
+                        int mixBack = 0xff - mix;
+                        row[tx] = 0xff000000
+                                | (mul8(mixBack, (back >> 16) & 0xff) + mul8(mix, foreR)) << 16
+                                | (mul8(mixBack, (back >> 8) & 0xff) + mul8(mix, foreG)) << 8
+                                | (mul8(mixBack, back & 0xff) + mul8(mix, foreB));
+                    }
+                }
+                raster.setDataElements(glyphX + fromX, glyphY + ty, w, 1, row);
+            }
+        }
+    }
+
+    /**
+     * Draws the glyphs of the text through a graphics context, for images the glyphs can not be copied into.
+     * The text is put in a translucent image of the color first, so any image type and composite works.
+     *
+     * @param g     Graphics to draw with
+     * @param text  Text to draw, only characters {@link #canDraw(String)} accepts
+     * @param x     X coordinate of the baseline start
+     * @param y     Y coordinate of the baseline
+     * @param color Color of the text
+     */
+    void draw(Graphics2D g, String text, float x, float y, Color color) {
+        int penX = (int) Math.floor(x + 0.5f);
+        int baseline = (int) Math.floor(y + 0.5f);
+        int textWidth = 0;
+        for (int c = 0; c < text.length(); c++) {
+            textWidth += advance[text.charAt(c) - FIRST];
+        }
+
+        //the text image starts at the baseline start less the room glyphs may take left of their origin
+        int margin = maxWidth;
+        int imageWidth = textWidth + 2 * margin;
+        int imageHeight = maxAbove + maxBelow;
+        if (imageHeight <= 0 || textWidth <= 0) {
+            return;
+        }
+
+        BufferedImage textImage = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+        WritableRaster raster = textImage.getRaster();
+        int rgb = color.getRGB() & 0xffffff;
+        int alpha = color.getAlpha();
+        int[] row = new int[maxWidth];
+
+        int glyphOriginX = margin;
+        for (int c = 0; c < text.length(); c++) {
+            int i = text.charAt(c) - FIRST;
+            int glyphX = glyphOriginX + left[i];
+            int glyphY = maxAbove + top[i];
+            glyphOriginX += advance[i];
+            if (glyphX < 0 || glyphX + width[i] > imageWidth) {
+                continue;
+            }
+
+            for (int ty = 0; ty < height[i]; ty++) {
+                raster.getDataElements(glyphX, glyphY + ty, width[i], 1, row);
+                int tileRow = offset[i] + ty * width[i];
+                for (int tx = 0; tx < width[i]; tx++) {
+                    int a = mul8(coverage[tileRow + tx] & 0xff, alpha);
+                    //glyphs of neighbours can overlap, keep the most ink
+                    if (a > row[tx] >>> 24) {
+                        row[tx] = a << 24 | rgb;
+                    }
+                }
+                raster.setDataElements(glyphX, glyphY + ty, width[i], 1, row);
+            }
+        }
+
+        g.drawImage(textImage, penX - margin, baseline - maxAbove, null);
+    }
+
+    //a * b / 255 rounded, computed the way the Java 2D multiplication table is
+    private static int mul8(int a, int b) {
+        return (int) ((a * 0x010101L * b + (1 << 23)) >>> 24);
+    }
+}
@@ -0,0 +1,133 @@
+package com.pnuema.java.barcode.awt;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fonts and font metrics used to lay out labels. Both are cached by family, style and size so sizing and centering a
+ * label does not create a graphics context or a font on every encode.
+ */
+final class LabelLayout {
+    //enough for every font a handful of label styles and image sizes use, the caches start over when it is reached
+    private static final int MAX_CACHED_FONTS = 256;
+    //each glyph atlas holds a few kilobytes of coverage, keep fewer of them
+    private static final int MAX_CACHED_ATLASES = 64;
+
+    private static final ConcurrentHashMap<FontKey, Font> fonts = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Font, FontMetrics> metrics = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Font, GlyphAtlas> atlases = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Integer, GlyphAtlas> ocrBAtlases = new ConcurrentHashMap<>();
+
+    //only used to look up metrics on a cache miss, set up like the graphics labels are drawn with
+    private static final BufferedImage measureImage = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    private LabelLayout() {
+    }
+
+    /**
+     * Gets a shared font instance
+     *
+     * @param family Font family name
+     * @param style  Font style
+     * @param size   Point size
+     * @return Font of the family, style and size
+     */
+    static Font getFont(String family, int style, int size) {
+        if (fonts.size() >= MAX_CACHED_FONTS) {
+            fonts.clear();
+        }
+        return fonts.computeIfAbsent(new FontKey(family, style, size), key -> new Font(key.family, key.style, key.size));
+    }
+
+    /**
+     * Gets the metrics of a font as measured by the graphics labels are drawn with
+     *
+     * @param font Font to measure
+     * @return Font metrics
+     */
+    static FontMetrics getFontMetrics(Font font) {
+        FontMetrics fontMetrics = metrics.get(font);
+        if (fontMetrics != null) {
+            return fontMetrics;
+        }
+
+        if (metrics.size() >= MAX_CACHED_FONTS) {
+            metrics.clear();
+        }
+        return metrics.computeIfAbsent(font, LabelLayout::measure);
+    }
+
+    /**
+     * Gets the glyph atlas of a font, rasterizing it the first time the font is used
+     *
+     * @param font Font of the glyphs
+     * @return Glyph atlas
+     */
+    static GlyphAtlas getGlyphAtlas(Font font) {
+        GlyphAtlas atlas = atlases.get(font);
+        if (atlas != null) {
+            return atlas;
+        }
+
+        if (atlases.size() >= MAX_CACHED_ATLASES) {
+            atlases.clear();
+        }
+        return atlases.computeIfAbsent(font, GlyphAtlas::forFont);
+    }
+
+    /**
+     * Gets the glyph atlas of the embedded OCR-B font at a size, rasterizing it the first time the size is used
+     *
+     * @param size Size in pixels per em
+     * @return Glyph atlas
+     */
+    static GlyphAtlas getOcrBAtlas(int size) {
+        GlyphAtlas atlas = ocrBAtlases.get(size);
+        if (atlas != null) {
+            return atlas;
+        }
+
+        if (ocrBAtlases.size() >= MAX_CACHED_ATLASES) {
+            ocrBAtlases.clear();
+        }
+        return ocrBAtlases.computeIfAbsent(size, GlyphAtlas::forOcrB);
+    }
+
+    private static FontMetrics measure(Font font) {
+        Graphics2D g = measureImage.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            return g.getFontMetrics(font);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static final class FontKey {
+        private final String family;
+        private final int style;
+        private final int size;
+        private final int hash;
+
+        FontKey(String family, int style, int size) {
+            this.family = family;
+            this.style = style;
+            this.size = size;
+            this.hash = 31 * (31 * family.hashCode() + style) + size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FontKey)) return false;
+            FontKey fontKey = (FontKey) o;
+            return style == fontKey.style && size == fontKey.size && family.equals(fontKey.family);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.pnuema.java.barcode.awt;
+
+import com.pnuema.java.barcode.Barcode;
+import com.pnuema.java.barcode.font.OcrB;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Class to draw labels for differing barcode types
+ */
+@SuppressWarnings("DuplicatedCode")
+class LabelRenderer {
+    //finished label bands of up to 4 MiB of pixels
+    private static final LabelStripCache labelStrips = new LabelStripCache(1 << 20);
+
+    /**
+     * Draws Label for Generic barcodes
+     * @param Barcode Barcode to draw the label for
+     * @param g Graphics the bars were drawn with, left with the label colors and hints set
+     * @param img Image the graphics draws on, null if it draws on something else
+     */
+    static void labelGeneric(Barcode Barcode, Graphics2D g, BufferedImage img) {
+        try {
+            Font font = Barcode.getLabelFont();
+            String text = Barcode.getAlternateLabel() == null ? Barcode.getRawData() : Barcode.getAlternateLabel();
+
+            int LabelY = 0;
+
+            //noinspection SwitchStatementWithTooFewBranches
+            switch (Barcode.getLabelPosition()) {
+                case BOTTOM:
+                    LabelY = Barcode.getHeight() - (font.getSize());
+                    break;
+            }//switch
+
+            //labels copied from the glyph atlas onto a band inside the image can be reused as a whole
+            GlyphAtlas atlas = getRasterAtlas(img, Barcode, text, font);
+            LabelStripCache.Key stripKey = null;
+            if (atlas != null && font.getSize() > 0 && LabelY >= 0 && LabelY + font.getSize() <= img.getHeight()) {
+                stripKey = new LabelStripCache.Key(text, font, Barcode.isEmbeddedLabelFont(), img.getWidth(),
+                        Barcode.getForeColor().getRGB(), Barcode.getBackColor().getRGB(), Barcode.getLabelPosition());
+                int[] strip = labelStrips.get(stripKey);
+                if (strip != null) {
+                    img.getRaster().setDataElements(0, LabelY, img.getWidth(), font.getSize(), strip);
+                    return;
+                }
+            }
+
+            //drawing the image over itself only changes translucent pixels
+            if (img != null && !isOpaque(Barcode)) {
+                g.drawImage(img, 0, 0, null);
+            }
+
+            RenderingHints rh = new RenderingHints(
+                    RenderingHints.KEY_TEXT_ANTIALIASING,
+                    RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHints(rh);
+
+            //color a background color box at the bottom of the barcode to hold the string of data
+            g.setColor(Barcode.getBackColor());
+            g.fillRect(0, LabelY, Barcode.getWidth(), font.getSize());
+
+            //draw datastring under the barcode image
+            g.setColor(Barcode.getForeColor());
+            Rectangle rect = new Rectangle(0, LabelY, Barcode.getWidth(), font.getSize());
+            drawCenteredString(g, img, Barcode, text, rect, font);
+
+            //only bands the text stays inside of (within the image) look the same on every barcode
+            if (stripKey != null) {
+                int baseline = getCenteredBaseline(Barcode, text, rect, font);
+                int inkTop = atlas.getInkTop(text);
+                int inkBottom = atlas.getInkBottom(text);
+                if (inkTop >= inkBottom
+                        || (Math.max(0, baseline + inkTop) >= LabelY && Math.min(img.getHeight(), baseline + inkBottom) <= LabelY + font.getSize())) {
+                    labelStrips.put(stripKey, (int[]) img.getRaster().getDataElements(0, LabelY, img.getWidth(), font.getSize(), null));
+                }
+            }
+        } catch (Exception ex) {
+            throw new RuntimeException("ELABEL_GENERIC-1: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Draw a String centered in the middle of a Rectangle.
+     *
+     * @param g The Graphics instance.
+     * @param img The image the graphics draws on, null if it draws on something else.
+     * @param barcode The barcode the label belongs to.
+     * @param text The String to draw.
+     * @param rect The Rectangle to center the text in.
+     * @param font The Font to draw with.
+     */
+    static void drawCenteredString(Graphics2D g, BufferedImage img, Barcode barcode, String text, Rectangle rect, Font font) {
+        // Determine the X coordinate for the text
+        int textWidth = isEmbeddedFont(barcode, text) ? OcrB.stringWidth(text, font.getSize()) : LabelLayout.getFontMetrics(font).stringWidth(text);
+        int x = rect.x + (rect.width - textWidth) / 2;
+        // Determine the Y coordinate for the text
+        int y = getCenteredBaseline(barcode, text, rect, font);
+        // Draw the String
+        drawString(g, img, barcode, text, x, y, font);
+    }
+
+    //baseline of text centered vertically in a rectangle (note we add the ascent, as in java 2d 0 is top of the screen)
+    private static int getCenteredBaseline(Barcode barcode, String text, Rectangle rect, Font font) {
+        if (isEmbeddedFont(barcode, text)) {
+            int size = font.getSize();
+            return rect.y + ((rect.height - OcrB.getHeight(size)) / 2) + OcrB.getAscent(size);
+        }
+
+        FontMetrics metrics = LabelLayout.getFontMetrics(font);
+        return rect.y + ((rect.height - metrics.getHeight()) / 2) + metrics.getAscent();
+    }
+
+    /**
+     * Draws text at a baseline position in the foreground color. Printable ASCII text in an untransformed font on an
+     * opaque ARGB barcode is copied from the glyph atlas of the font, anything else is drawn with drawString.
+     * Barcodes with the embedded label font draw printable ASCII text with the OCR-B glyphs at the size of the font
+     * instead, and never touch the AWT font stack for it.
+     *
+     * @param g The Graphics instance, drawing in the foreground color of the barcode.
+     * @param img The image the graphics draws on, null if it draws on something else.
+     * @param barcode The barcode the label belongs to.
+     * @param text The String to draw.
+     * @param x X coordinate of the baseline start.
+     * @param y Y coordinate of the baseline.
+     * @param font The Font to draw with.
+     */
+    static void drawString(Graphics2D g, BufferedImage img, Barcode barcode, String text, float x, float y, Font font) {
+        g.setFont(font);
+
+        GlyphAtlas atlas = getRasterAtlas(img, barcode, text, font);
+        if (atlas != null) {
+            atlas.draw(img, text, x, y, barcode.getForeColor());
+        } else if (isEmbeddedFont(barcode, text)) {
+            LabelLayout.getOcrBAtlas(font.getSize()).draw(g, text, x, y, barcode.getForeColor());
+        } else {
+            g.drawString(text, x, y);
+        }
+    }
+
+    //glyph atlas text is copied from straight into the image, null if it has to be drawn through the graphics
+    private static GlyphAtlas getRasterAtlas(BufferedImage img, Barcode barcode, String text, Font font) {
+        if (img == null || img.getType() != BufferedImage.TYPE_INT_ARGB || !isOpaque(barcode)) {
+            return null;
+        }
+
+        if (isEmbeddedFont(barcode, text)) {
+            return LabelLayout.getOcrBAtlas(font.getSize());
+        }
+
+        if (!font.isTransformed() && !font.hasLayoutAttributes() && GlyphAtlas.canDraw(text)) {
+            return LabelLayout.getGlyphAtlas(font);
+        }
+
+        return null;
+    }
+
+    private static boolean isEmbeddedFont(Barcode barcode, String text) {
+        return barcode.isEmbeddedLabelFont() && OcrB.canDisplay(text);
+    }
+
+    private static boolean isOpaque(Barcode barcode) {
+        return barcode.getForeColor().getAlpha() == 255 && barcode.getBackColor().getAlpha() == 255;
+    }
+}
@@ -0,0 +1,123 @@
+package com.pnuema.java.barcode.awt;
+
+import com.pnuema.java.barcode.Labels.LabelPositions;
+
+import java.awt.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread safe cache of finished label bands: the rows of the label with the background filled and the text drawn,
+ * as integer ARGB pixels ready to be copied into a barcode image. Bounded by the total number of pixels held, the least
+ * recently used bands are evicted first.
+ */
+final class LabelStripCache {
+    private final LinkedHashMap<Key, int[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long maximumPixels;
+    private long currentPixels;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumPixels Maximum number of pixels of all bands together
+     */
+    LabelStripCache(long maximumPixels) {
+        this.maximumPixels = maximumPixels;
+    }
+
+    /**
+     * Looks up a label band.
+     *
+     * @param key Everything the pixels of the band depend on
+     * @return Pixels of the band, row after row, or null if not present. The array must not be changed
+     */
+    int[] get(Key key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a label band, evicting the least recently used ones if needed. Bands larger than the whole cache are not
+     * stored.
+     *
+     * @param key    Everything the pixels of the band depend on
+     * @param pixels Pixels of the band, row after row, owned by the cache from now on
+     */
+    void put(Key key, int[] pixels) {
+        if (pixels.length > maximumPixels) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            int[] previous = entries.put(key, pixels);
+            if (previous != null) {
+                currentPixels -= previous.length;
+            }
+            currentPixels += pixels.length;
+
+            Iterator<Map.Entry<Key, int[]>> eldest = entries.entrySet().iterator();
+            while (currentPixels > maximumPixels && eldest.hasNext()) {
+                currentPixels -= eldest.next().getValue().length;
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Identifies a label band by everything its pixels depend on.
+     */
+    static final class Key {
+        private final String text;
+        private final Font font;
+        private final boolean embeddedFont;
+        private final int width;
+        private final int foreColor;
+        private final int backColor;
+        private final LabelPositions position;
+        private final int hash;
+
+        Key(String text, Font font, boolean embeddedFont, int width, int foreColor, int backColor, LabelPositions position) {
+            this.text = text;
+            this.font = font;
+            this.embeddedFont = embeddedFont;
+            this.width = width;
+            this.foreColor = foreColor;
+            this.backColor = backColor;
+            this.position = position;
+
+            int h = text.hashCode();
+            h = 31 * h + font.hashCode();
+            h = 31 * h + (embeddedFont ? 1 : 0);
+            h = 31 * h + width;
+            h = 31 * h + foreColor;
+            h = 31 * h + backColor;
+            h = 31 * h + position.hashCode();
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return hash == key.hash && embeddedFont == key.embeddedFont && width == key.width
+                    && foreColor == key.foreColor && backColor == key.backColor && position == key.position
+                    && text.equals(key.text) && font.equals(key.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.pnuema.java.barcode.awt;
+
+import com.pnuema.java.barcode.Barcode;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Surface a barcode is drawn on: a new ARGB image, an area of an image of the caller or a graphics of the caller.
+ * Areas of images are drawn through a sub-image sharing the raster of the caller, so the pixels are written in place
+ * (and copied straight from glyph atlases when the image is ARGB) without an intermediate image.
+ * Rotated barcodes are drawn through a quadrant rotation of the graphics, writing the bars into the raster as rotated
+ * rectangles rather than resampling an upright image. A target is opened once per barcode, after the layout has
+ * settled the size of the barcode.
+ */
+final class RenderTarget {
+    private final BufferedImage targetImage;
+    private final Graphics2D targetGraphics;
+    private final int x;
+    private final int y;
+    private BufferedImage image;
+    private boolean rotated;
+
+    private RenderTarget(BufferedImage targetImage, Graphics2D targetGraphics, int x, int y) {
+        this.targetImage = targetImage;
+        this.targetGraphics = targetGraphics;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Creates a target drawing on a new ARGB image of the size of the barcode.
+     *
+     * @return Render target
+     */
+    static RenderTarget newImage() {
+        return new RenderTarget(null, null, 0, 0);
+    }
+
+    /**
+     * Creates a target drawing on an area of an image.
+     *
+     * @param image Image to draw on
+     * @param x     Left edge of the barcode in the image
+     * @param y     Top edge of the barcode in the image
+     * @return Render target
+     */
+    static RenderTarget of(BufferedImage image, int x, int y) {
+        return new RenderTarget(image, null, x, y);
+    }
+
+    /**
+     * Creates a target drawing through a graphics, with the barcode translated to a position and clipped to its size.
+     *
+     * @param g Graphics to draw with, left as it is
+     * @param x Left edge of the barcode in the user space of the graphics
+     * @param y Top edge of the barcode in the user space of the graphics
+     * @return Render target
+     */
+    static RenderTarget of(Graphics2D g, int x, int y) {
+        return new RenderTarget(null, g, x, y);
+    }
+
+    /**
+     * Opens the surface for a barcode of a size.
+     *
+     * @param width       Width of the barcode before rotation
+     * @param height      Height of the barcode before rotation
+     * @param orientation Clockwise rotation of the barcode on the surface
+     * @return Graphics drawing on the surface with the top left corner of the barcode at 0, 0 and the x axis along its
+     * width, to be disposed by the caller
+     */
+    Graphics2D open(int width, int height, Barcode.Orientations orientation) {
+        //quarter turns swap the size the barcode takes on the surface
+        boolean quarterTurn = orientation == Barcode.Orientations.ROTATE_90 || orientation == Barcode.Orientations.ROTATE_270;
+        int surfaceWidth = quarterTurn ? height : width;
+        int surfaceHeight = quarterTurn ? width : height;
+
+        Graphics2D g;
+        if (targetGraphics != null) {
+            g = (Graphics2D) targetGraphics.create();
+            g.translate(x, y);
+            g.clipRect(0, 0, surfaceWidth, surfaceHeight);
+        } else {
+            if (targetImage == null) {
+                image = new BufferedImage(surfaceWidth, surfaceHeight, BufferedImage.TYPE_INT_ARGB);
+            } else {
+                if (x < 0 || y < 0 || x + surfaceWidth > targetImage.getWidth() || y + surfaceHeight > targetImage.getHeight()) {
+                    throw new IllegalArgumentException("EGENERATE_IMAGE-5: Barcode of " + surfaceWidth + "x" + surfaceHeight + " at " + x + "," + y + " does not fit in the target image of " + targetImage.getWidth() + "x" + targetImage.getHeight() + ".");
+                }
+                image = targetImage.getSubimage(x, y, surfaceWidth, surfaceHeight);
+            }
+            g = image.createGraphics();
+        }
+
+        //quadrant rotations map whole pixels onto whole pixels, so the bars fill straight into the rotated raster
+        switch (orientation) {
+            case ROTATE_90:
+                g.translate(height, 0);
+                g.transform(AffineTransform.getQuadrantRotateInstance(1));
+                break;
+            case ROTATE_180:
+                g.translate(width, height);
+                g.transform(AffineTransform.getQuadrantRotateInstance(2));
+                break;
+            case ROTATE_270:
+                g.translate(0, width);
+                g.transform(AffineTransform.getQuadrantRotateInstance(3));
+                break;
+            case NORMAL:
+            default:
+                break;
+        }
+        rotated = orientation != Barcode.Orientations.NORMAL;
+
+        return g;
+    }
+
+    /**
+     * Gets the image the barcode is drawn on once opened: the new image, or the area of the image of the caller.
+     *
+     * @return Image of the barcode as it appears on the surface, null if drawn through a graphics
+     */
+    BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the image the barcode is drawn on when its pixels line up with the coordinates of the barcode, so label
+     * bands and glyphs can be copied into its raster directly.
+     *
+     * @return Image with the top left corner of the barcode at 0, 0, or null if drawn through a graphics or rotated
+     */
+    BufferedImage getDirectImage() {
+        return rotated ? null : image;
+    }
+}
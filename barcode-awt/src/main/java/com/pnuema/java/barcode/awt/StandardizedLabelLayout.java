@@ -0,0 +1,234 @@
+package com.pnuema.java.barcode.awt;
+
+import com.pnuema.java.barcode.Barcode;
+import com.pnuema.java.barcode.EncodingType;
+import com.pnuema.java.barcode.Labels.LabelPositions;
+import com.pnuema.java.barcode.font.OcrB;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Layout of the standardized human readable label of EAN-13 and UPC-A symbols, computed from the module grid of the
+ * encoded value: the guard bars run down between the digit groups, every digit is centered under the seven modules of
+ * its symbol character, and the digits outside the guards sit in quiet zones left of (and for UPC-A right of) the
+ * bars. The bars and the digits are drawn in the same pass.
+ */
+final class StandardizedLabelLayout {
+    //modules of an EAN-13 or UPC-A symbol from the start guard to the end guard
+    private static final int SYMBOL_MODULES = 95;
+    //modules of one symbol character, and of the quiet zone holding a digit outside the guards
+    private static final int CHARACTER_MODULES = 7;
+    //guard bars run this many modules further down than the other bars
+    private static final int GUARD_EXTENSION_MODULES = 5;
+    //smallest font size worth drawing, smaller layouts fall back to the generic label
+    private static final int MIN_FONT_SIZE = 6;
+
+    private final EncodingType type;
+    private final String digits;
+    private final int moduleWidth;
+    private final int barsLeft;
+    private final int barBottom;
+    private final int guardBottom;
+    private final int baseline;
+    private final Font font;
+    private final Font outsideFont;
+
+    private StandardizedLabelLayout(EncodingType type, String digits, int moduleWidth, int barsLeft, int barBottom,
+                                    int guardBottom, int baseline, Font font, Font outsideFont) {
+        this.type = type;
+        this.digits = digits;
+        this.moduleWidth = moduleWidth;
+        this.barsLeft = barsLeft;
+        this.barBottom = barBottom;
+        this.guardBottom = guardBottom;
+        this.baseline = baseline;
+        this.font = font;
+        this.outsideFont = outsideFont;
+    }
+
+    /**
+     * Gets the number of modules the image is divided into: the symbol and the quiet zones holding the digits outside
+     * the guards.
+     *
+     * @param type EAN13 or UPCA
+     * @return Modules across the image
+     */
+    static int getTotalModules(EncodingType type) {
+        return SYMBOL_MODULES + CHARACTER_MODULES * (type == EncodingType.UPCA ? 2 : 1);
+    }
+
+    /**
+     * Gets whether a barcode gets the standardized label: a bottom label of its own data, with no alternate label or
+     * one that is the data itself (with or without the check digit). Any other alternate label is drawn as given.
+     *
+     * @param barcode Barcode to draw
+     * @return True if the label is standardized
+     */
+    static boolean isStandardized(Barcode barcode) {
+        if (!barcode.isIncludeLabel() || !barcode.isStandardizeLabel() || barcode.getLabelPosition() != LabelPositions.BOTTOM) {
+            return false;
+        }
+
+        String alternateLabel = barcode.getAlternateLabel();
+        String rawData = barcode.getRawData();
+        return alternateLabel == null || alternateLabel.equals(rawData)
+                || (!rawData.isEmpty() && alternateLabel.equals(rawData.substring(0, rawData.length() - 1)));
+    }
+
+    /**
+     * Lays out the bars and digits of a barcode in its image size.
+     *
+     * @param barcode      Barcode to draw, with its width and height already set
+     * @param encodedValue Bars and spaces of the symbol
+     * @return Layout, or null if the image is too small for a readable standardized label
+     */
+    static StandardizedLabelLayout create(Barcode barcode, String encodedValue) {
+        EncodingType type = barcode.getEncodedType();
+        String digits = barcode.getRawData();
+        int digitCount = type == EncodingType.UPCA ? 12 : 13;
+        if (encodedValue.length() != SYMBOL_MODULES || digits.length() != digitCount) {
+            return null;
+        }
+
+        int totalModules = getTotalModules(type);
+        int moduleWidth = barcode.getWidth() / totalModules;
+        if (moduleWidth <= 0) {
+            return null;
+        }
+
+        //the largest font whose digits fit a symbol character and whose height fits a quarter of the image
+        Font labelFont = barcode.getLabelFont();
+        String family = barcode.isEmbeddedLabelFont() ? labelFont.getName() : labelFont.getFamily();
+        int characterWidth = CHARACTER_MODULES * moduleWidth - 1;
+        int maxAscent = barcode.getHeight() / 4;
+        int low = 0;
+        int high = 4 * characterWidth;
+        while (low < high) {
+            int size = (low + high + 1) / 2;
+            Font candidate = LabelLayout.getFont(family, labelFont.getStyle(), size);
+            if (getDigitWidth(barcode, candidate) <= characterWidth && getAscent(barcode, candidate) <= maxAscent) {
+                low = size;
+            } else {
+                high = size - 1;
+            }
+        }
+        if (low < MIN_FONT_SIZE) {
+            return null;
+        }
+
+        Font font = LabelLayout.getFont(family, labelFont.getStyle(), low);
+        Font outsideFont = type == EncodingType.UPCA ? LabelLayout.getFont(family, labelFont.getStyle(), Math.max(MIN_FONT_SIZE, low * 3 / 4)) : font;
+
+        int leftover = barcode.getWidth() - totalModules * moduleWidth;
+        int shift;
+        switch (barcode.getAlignmentPosition()) {
+            case LEFT:
+                shift = 0;
+                break;
+            case RIGHT:
+                shift = leftover;
+                break;
+            case CENTER:
+            default:
+                shift = leftover / 2;
+                break;
+        }
+
+        int baseline = barcode.getHeight() - moduleWidth;
+        int barBottom = baseline - getAscent(barcode, font);
+        int guardBottom = Math.min(baseline, barBottom + GUARD_EXTENSION_MODULES * moduleWidth);
+        if (barBottom <= 0) {
+            return null;
+        }
+
+        return new StandardizedLabelLayout(type, digits, moduleWidth, shift + CHARACTER_MODULES * moduleWidth,
+                barBottom, guardBottom, baseline, font, outsideFont);
+    }
+
+    /**
+     * Gets the width of one module
+     *
+     * @return Width in pixels
+     */
+    int getModuleWidth() {
+        return moduleWidth;
+    }
+
+    /**
+     * Gets the left edge of the first module of the start guard
+     *
+     * @return X coordinate in pixels
+     */
+    int getBarsLeft() {
+        return barsLeft;
+    }
+
+    /**
+     * Gets the bottom of the bars of a module: guard bars (and for UPC-A the bars of the first and last digit) run
+     * further down than the others.
+     *
+     * @param module Module of the symbol, 0 for the first module of the start guard
+     * @return Y coordinate below the bar in pixels
+     */
+    int getBarBottom(int module) {
+        int guardEnd = type == EncodingType.UPCA ? 3 + CHARACTER_MODULES : 3;
+        if (module < guardEnd || module >= SYMBOL_MODULES - guardEnd || (module >= 45 && module < 50)) {
+            return guardBottom;
+        }
+        return barBottom;
+    }
+
+    /**
+     * Draws the digits under the bars.
+     *
+     * @param g       Graphics the bars were drawn with, set to the foreground color
+     * @param img     Image the graphics draws on, null if it draws on something else
+     * @param barcode Barcode the label belongs to
+     */
+    void drawDigits(Graphics2D g, BufferedImage img, Barcode barcode) {
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        //first digit in the left quiet zone
+        drawDigit(g, img, barcode, 0, barsLeft - CHARACTER_MODULES * moduleWidth, outsideFont);
+
+        if (type == EncodingType.UPCA) {
+            //the first and last digit own the extended bars next to the guards, only 5 digits go under each half
+            for (int i = 1; i <= 5; i++) {
+                drawDigit(g, img, barcode, i, barsLeft + (3 + CHARACTER_MODULES * i) * moduleWidth, font);
+            }
+            for (int i = 6; i <= 10; i++) {
+                drawDigit(g, img, barcode, i, barsLeft + (50 + CHARACTER_MODULES * (i - 6)) * moduleWidth, font);
+            }
+            drawDigit(g, img, barcode, 11, barsLeft + SYMBOL_MODULES * moduleWidth, outsideFont);
+        } else {
+            for (int i = 1; i <= 6; i++) {
+                drawDigit(g, img, barcode, i, barsLeft + (3 + CHARACTER_MODULES * (i - 1)) * moduleWidth, font);
+            }
+            for (int i = 7; i <= 12; i++) {
+                drawDigit(g, img, barcode, i, barsLeft + (50 + CHARACTER_MODULES * (i - 7)) * moduleWidth, font);
+            }
+        }
+    }
+
+    //centers a digit over the seven modules starting at characterLeft
+    private void drawDigit(Graphics2D g, BufferedImage img, Barcode barcode, int index, int characterLeft, Font digitFont) {
+        String digit = digits.substring(index, index + 1);
+        int x = characterLeft + (CHARACTER_MODULES * moduleWidth - getDigitWidth(barcode, digitFont)) / 2;
+        LabelRenderer.drawString(g, img, barcode, digit, x, baseline, digitFont);
+    }
+
+    private static int getDigitWidth(Barcode barcode, Font font) {
+        if (barcode.isEmbeddedLabelFont()) {
+            return OcrB.getAdvance(font.getSize());
+        }
+        return LabelLayout.getFontMetrics(font).charWidth('0');
+    }
+
+    private static int getAscent(Barcode barcode, Font font) {
+        if (barcode.isEmbeddedLabelFont()) {
+            return OcrB.getAscent(font.getSize());
+        }
+        return LabelLayout.getFontMetrics(font).getAscent();
+    }
+}
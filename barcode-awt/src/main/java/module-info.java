@@ -0,0 +1,12 @@
+/**
+ * Draws barcodes with Java 2D and writes them with ImageIO, providing the {@link
+ * com.pnuema.java.barcode.BarcodeRenderer} used by {@link com.pnuema.java.barcode.Barcode}.
+ */
+module com.pnuema.java.barcode.awt {
+    requires transitive com.pnuema.java.barcode;
+    requires transitive java.desktop;
+
+    exports com.pnuema.java.barcode.awt;
+
+    provides com.pnuema.java.barcode.BarcodeRenderer with com.pnuema.java.barcode.awt.AwtBarcodeRenderer;
+}
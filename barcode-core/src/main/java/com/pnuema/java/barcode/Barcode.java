@@ -0,0 +1,1267 @@
+package com.pnuema.java.barcode;
+
+import com.pnuema.java.barcode.cache.DiskRenderCache;
+import com.pnuema.java.barcode.cache.EncodingCache;
+import com.pnuema.java.barcode.cache.RenderCache;
+import com.pnuema.java.barcode.font.OcrB;
+import com.pnuema.java.barcode.jfr.BarcodeLabelEvent;
+import com.pnuema.java.barcode.jfr.BarcodeRenderEvent;
+import com.pnuema.java.barcode.jfr.BarcodeSerializeEvent;
+import com.pnuema.java.barcode.metrics.BarcodeMetricsListener;
+import com.pnuema.java.barcode.metrics.EncodeEvent;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.RenderedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Generates a barcode image of a specified symbology from a string of data.
+ */
+@SuppressWarnings({"WeakerAccess", "unused", "DuplicatedCode"})
+public class Barcode {
+    /**
+     * Represents the types of file formats that can be used for saving files.
+     * This enumeration includes common image file formats as well as an unspecified option.
+     * Enum Constants:
+     * - JPG: Represents the JPEG image format.
+     * - BMP: Represents the BMP (Bitmap) image format.
+     * - PNG: Represents the PNG (Portable Network Graphics) image format.
+     * - GIF: Represents the GIF (Graphics Interchange Format) image format.
+     * - TIFF: Represents the TIFF (Tagged Image File Format) image format.
+     * - UNSPECIFIED: Represents an undefined or unspecified file format.
+     */
+    public enum SaveTypes {
+        /**
+         * Represents the JPEG image file format.
+         * Commonly used for storing and compressing digital images, particularly for photographs.
+         */
+        JPG,
+        /**
+         * Represents the BMP (Bitmap) image file format.
+         * BMP is a raster graphics image file format used to store bitmap digital images.
+         * It is commonly utilized for simple and uncompressed images.
+         */
+        BMP,
+        /**
+         * Represents the PNG (Portable Network Graphics) image file format.
+         * PNG is a raster-graphics file format that supports lossless data compression.
+         * It is widely used for high-quality images with support for transparency.
+         */
+        PNG,
+        /**
+         * Represents the GIF (Graphics Interchange Format) image file format.
+         * GIF is widely used for animated images and simple graphics with limited color palettes.
+         */
+        GIF,
+        /**
+         * Represents the TIFF (Tagged Image File Format) image file format.
+         * TIFF is a flexible and adaptable file format used for storing high-quality raster graphics and images.
+         * It is commonly used in applications requiring detailed image data, such as desktop publishing and professional photography.
+         */
+        TIFF,
+        /**
+         * Represents an undefined or unspecified file format.
+         * This constant is used when no specific file format is selected or applicable.
+         */
+        UNSPECIFIED
+    }
+
+    /**
+     * The AlignmentPositions enum represents the alignment positions
+     * that can be used to specify the layout or positioning of elements.
+     * It defines the following constants:
+     * - CENTER: Represents a centered alignment.
+     * - LEFT: Represents a left-aligned position.
+     * - RIGHT: Represents a right-aligned position.
+     */
+    public enum AlignmentPositions {
+        /**
+         * Represents a centered alignment position.
+         * Typically used to specify that an element should be positioned
+         * or aligned at the center within its container or layout.
+         */
+        CENTER,
+        /**
+         * Represents a left-aligned position.
+         * Typically used to specify that an element should be positioned
+         * or aligned to the left within its container or layout.
+         */
+        LEFT,
+        /**
+         * Represents a right-aligned position.
+         * Typically used to specify that an element should be positioned
+         * or aligned to the right within its container or layout.
+         */
+        RIGHT
+    }
+
+    /**
+     * The Orientations enum represents the clockwise rotation the barcode is drawn with.
+     * The width and height of the barcode always describe it before rotation, so quarter turns swap the width and
+     * height of the image.
+     */
+    public enum Orientations {
+        /**
+         * Bars run from the top to the bottom of the image, the label reads left to right.
+         */
+        NORMAL,
+        /**
+         * Rotated a quarter turn clockwise: bars run across the image and the label reads top to bottom.
+         */
+        ROTATE_90,
+        /**
+         * Rotated half a turn: the barcode is upside down.
+         */
+        ROTATE_180,
+        /**
+         * Rotated three quarter turns clockwise: bars run across the image and the label reads bottom to top.
+         */
+        ROTATE_270
+    }
+
+    private final BarcodeEncoder encoder = new BarcodeEncoder();
+    private List<String> errors = new ArrayList<>();
+    private String rawData = "";
+    private String encodedValue = "";
+    private String countryAssigningManufacturerCode = "N/A";
+    private EncodingType encodedType = null;
+    //colors and font are created on first use so encoding alone never initializes AWT
+    private Color foreColor;
+    private Color backColor;
+    private int width = 300;
+    private int height = 150;
+    private Font labelFont;
+    private Labels.LabelPositions labelPositions = Labels.LabelPositions.BOTTOM;
+
+    //Properties
+    private AlignmentPositions alignmentPosition = AlignmentPositions.CENTER;
+    private Orientations orientation = Orientations.NORMAL;
+    private String alternateLabel;
+    private boolean includeLabel;
+    private boolean standardizeLabel = true;
+    private boolean embeddedLabelFont;
+    private double encodingTime;
+    private double drawTime;
+    private Integer barWidth;
+    private Double aspectRatio;
+    private RenderCache renderCache;
+    private DiskRenderCache diskRenderCache;
+    private BarcodeRenderer renderer;
+    private BarcodeLabelEvent labelEvent;
+    /**
+     * Number of synthetic encodes of each encoding type run by {@link #warmUp(Set, Set)}
+     */
+    public static final int DEFAULT_WARM_UP_ITERATIONS = 1000;
+    private static volatile BarcodeMetricsListener defaultMetricsListener;
+    private BarcodeMetricsListener metricsListener = defaultMetricsListener;
+    private final long[] stageNanos = new long[EncodeEvent.Stage.values().length];
+    private long stageStart;
+    private int payloadLength;
+    private String serializedFormat;
+    private long serializedBytes;
+
+    /**
+     * Default constructor.  Does not populate the raw data.  MUST be done via the RawData property before encoding.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public Barcode() {
+    }
+
+    /**
+     * Constructor. Populates the raw data. No whitespace will be added before or after the barcode.
+     *
+     * @param data String to be encoded
+     */
+    @SuppressWarnings("WeakerAccess")
+    public Barcode(String data) {
+        setRawData(data);
+    }
+
+    /**
+     * Constructor. Populates the raw data. No whitespace will be added before or after the barcode.
+     *
+     * @param data  String to be encoded
+     * @param iType Type to encode
+     */
+    public Barcode(String data, EncodingType iType) {
+        this(data);
+        encodedType = iType;
+    }
+
+    /**
+     * Get the Barcode libraries name
+     * @return Name string
+     */
+    public String getTitle() {
+        return getClass().getPackage().getImplementationTitle();
+    }
+
+    /**
+     * Get the Barcode libraries version
+     * @return Version string
+     */
+    public String getVersion() {
+        return getClass().getPackage().getImplementationVersion();
+    }
+
+    /**
+     * Gets the raw data to encode
+     *
+     * @return String representation of the data to encode
+     */
+    public String getRawData() {
+        return rawData;
+    }
+
+    /**
+     * Sets the raw data to encode
+     *
+     * @param rawData String representation of the data to encode
+     */
+    public void setRawData(String rawData) {
+        this.rawData = rawData;
+    }
+
+    /**
+     * Gets the encoded value
+     *
+     * @return Encoded value
+     */
+    public String getEncodedValue() {
+        return encodedValue;
+    }
+
+    /**
+     * Gets the Country that assigned the Manufacturer Code
+     *
+     * @return Country that assigned the manufacturer code
+     */
+    public String getCountryAssigningManufacturerCode() {
+        return countryAssigningManufacturerCode;
+    }
+
+    /**
+     * Gets the Encoded Type (ex. UPC-A, EAN-13 ... etc.)
+     *
+     * @return encoded type
+     */
+    public EncodingType getEncodedType() {
+        return encodedType;
+    }
+
+    /**
+     * Sets the Encoded Type (ex. UPC-A, EAN-13 ... etc.)
+     *
+     * @param encoded_Type encoded type
+     */
+    public void setEncodedType(EncodingType encoded_Type) {
+        encodedType = encoded_Type;
+    }
+
+    /**
+     * Gets the color of the bars. (Default is black)
+     *
+     * @return Color of the bars
+     */
+    public Color getForeColor() {
+        if (foreColor == null) {
+            foreColor = Color.BLACK;
+        }
+        return foreColor;
+    }
+
+    /**
+     * Sets the color of the bars. (Default is black)
+     *
+     * @param _ForeColor Color of the bars
+     */
+    public void setForeColor(Color _ForeColor) {
+        this.foreColor = _ForeColor;
+    }
+
+    /**
+     * Gets the background color. (Default is white)
+     *
+     * @return Color of the background
+     */
+    public Color getBackColor() {
+        if (backColor == null) {
+            backColor = Color.WHITE;
+        }
+        return backColor;
+    }
+
+    /**
+     * Sets the background color. (Default is white)
+     *
+     * @param _BackColor Color of the background
+     */
+    public void setBackColor(Color _BackColor) {
+        this.backColor = _BackColor;
+    }
+
+    /**
+     * Gets the label font. (Default is Serif, 10pt, Bold)
+     *
+     * @return Label font
+     */
+    public Font getLabelFont() {
+        if (labelFont == null) {
+            labelFont = new Font("Serif", Font.BOLD, 10);
+        }
+        return labelFont;
+    }
+
+    /**
+     * Sets the label font. (Default is Serif, 10pt, Bold)
+     *
+     * @param _LabelFont Label font
+     */
+    public void setLabelFont(Font _LabelFont) {
+        this.labelFont = _LabelFont;
+    }
+
+    /**
+     * Gets the location of the label in relation to the barcode. (BOTTOMCENTER is default)
+     *
+     * @return Label location in relation to the barcode orientation
+     */
+    public Labels.LabelPositions getLabelPosition() {
+        return labelPositions;
+    }
+
+    /**
+     * Sets the location of the label in relation to the barcode. (BOTTOMCENTER is default)
+     *
+     * @param _LabelPosition Label location in relation to the barcode orientation
+     */
+    public void setLabelPosition(Labels.LabelPositions _LabelPosition) {
+        this.labelPositions = _LabelPosition;
+    }
+
+    /**
+     * Gets the width of the image to be drawn. (Default is 300 pixels)
+     *
+     * @return Width of the barcode image
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Sets the width of the image to be drawn. (Default is 300 pixels)
+     *
+     * @param width Width to draw the image
+     */
+    public void setWidth(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Gets the height of the image to be drawn. (Default is 150 pixels)
+     *
+     * @return Height fo the image
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Sets the height of the image to be drawn. (Default is 150 pixels)
+     *
+     * @param height Height to draw the image
+     */
+    public void setHeight(int height) {
+        this.height = height;
+    }
+
+    /**
+     * Gets alternate label to be displayed.  (IncludeLabel must be set to true as well)
+     *
+     * @return Alternate label text
+     */
+    public String getAlternateLabel() {
+        return alternateLabel;
+    }
+
+    /**
+     * Sets alternate label to be displayed.  (IncludeLabel must be set to true as well)
+     *
+     * @param alternateLabel Alternate label text
+     */
+    public void setAlternateLabel(String alternateLabel) {
+        this.alternateLabel = alternateLabel;
+    }
+
+    /**
+     * Gets whether a label should be drawn below the image. (Default is false)
+     *
+     * @return True if a label should be drawn below the image, false otherwise
+     */
+    public boolean isIncludeLabel() {
+        return includeLabel;
+    }
+
+    /**
+     * Sets whether a label should be drawn below the image. (Default is false)
+     *
+     * @param includeLabel True if a label should be drawn below the image, false otherwise
+     */
+    public void setIncludeLabel(boolean includeLabel) {
+        this.includeLabel = includeLabel;
+    }
+
+    /**
+     * Get if supposed to try to standardize the label format. (Valid only for EAN13 and empty AlternateLabel, default is true)
+     *
+     * @return True if standardization of the label should be attempted, false otherwise
+     */
+    public boolean isStandardizeLabel() {
+        return standardizeLabel;
+    }
+
+    /**
+     * Set to standardize the label format. (Valid only for EAN13 and empty AlternateLabel, default is true)
+     *
+     * @param standardizeLabel True if standardization of the label should be attempted, false otherwise
+     */
+    public void setStandardizeLabel(boolean standardizeLabel) {
+        this.standardizeLabel = standardizeLabel;
+    }
+
+    /**
+     * Gets whether labels are drawn with the OCR-B font embedded in the library. (Default is false)
+     *
+     * @return True if labels are drawn with the embedded font, false if with the label font
+     */
+    public boolean isEmbeddedLabelFont() {
+        return embeddedLabelFont;
+    }
+
+    /**
+     * Sets whether labels are drawn with the OCR-B font embedded in the library instead of the label font, so drawing
+     * them needs no system fonts and gives the same pixels on every host. Only the size of the label font is used.
+     * Labels with characters other than printable ASCII are still drawn with the label font. (Default is false)
+     *
+     * @param embeddedLabelFont True if labels should be drawn with the embedded font, false if with the label font
+     */
+    public void setEmbeddedLabelFont(boolean embeddedLabelFont) {
+        this.embeddedLabelFont = embeddedLabelFont;
+    }
+
+    /**
+     * Gets the amount of time in milliseconds that it took to encode and draw the barcode.
+     *
+     * @return The number of milliseconds elapsed since encoding started
+     */
+    public double getEncodingTime() {
+        return encodingTime;
+    }
+
+    /**
+     * Sets the amount of time in milliseconds that it took to encode and draw the barcode.
+     *
+     * @param encodingTime The number of milliseconds elapsed since encoding started
+     */
+    private void setEncodingTime(double encodingTime) {
+        this.encodingTime = encodingTime;
+    }
+
+    /**
+     * Gets the amount of time in milliseconds that it took to draw the barcode.
+     *
+     * @return The number of milliseconds elapsed since encoding started
+     */
+    public double getDrawTime() {
+        return drawTime;
+    }
+
+    /**
+     * Sets the amount of time in milliseconds that it took to encode and draw the barcode.
+     *
+     * @param drawTime The number of milliseconds elapsed since drawing started
+     */
+    private void setDrawTime(double drawTime) {
+        this.drawTime = drawTime;
+    }
+
+    /**
+     * Get the bar width if set, otherwise null
+     * @return Width of the bars if manually set, null otherwise
+     */
+    public Integer getBarWidth() {
+        return barWidth;
+    }
+
+    /**
+     * Sets the width of a bar. If non-null width is ignored and calculated automatically.
+     * @param barWidth Fixed width of the bars are set and width is recalculated
+     */
+    public void setBarWidth(Integer barWidth) {
+        this.barWidth = barWidth;
+    }
+
+    /**
+     * Gets the aspect ratio of the image if set, otherwise null
+     * @return Aspect ratio of the image, otherwise null
+     */
+    public Double getAspectRatio() {
+        return aspectRatio;
+    }
+
+    /**
+     * If non-null, Height is ignored and set to Width divided by this value rounded down.
+     * <p>
+     * Note: As longer barcodes may be more difficult to align a scanner gun with,
+     * growing the height based on the width automatically allows the gun to be rotated the
+     * same amount regardless of how wide the barcode is. A recommended value is 2.
+     * <p>
+     * This value is applied to Height after Width has been
+     * calculated. So it is safe to use in conjunction with {@link Barcode#setBarWidth(Integer)}
+     *
+     * @param aspectRatio Aspect ratio of height to width to set the image to
+     */
+    public void setAspectRatio(Double aspectRatio) {
+        this.aspectRatio = aspectRatio;
+    }
+
+    /**
+     * Gets the cache consulted before encoding, if set
+     *
+     * @return Encoding cache, null if encodings are not cached
+     */
+    public EncodingCache getEncodingCache() {
+        return encoder.getEncodingCache();
+    }
+
+    /**
+     * Sets a cache to consult before encoding. Encodings found in the cache skip the symbology entirely.
+     * The same cache can be shared between Barcode instances. (Default is null, no caching)
+     *
+     * @param encodingCache Encoding cache, null to disable caching
+     */
+    public void setEncodingCache(EncodingCache encodingCache) {
+        encoder.setEncodingCache(encodingCache);
+    }
+
+    /**
+     * Gets the cache consulted before rendering image data, if set
+     *
+     * @return Render cache, null if image data is not cached
+     */
+    public RenderCache getRenderCache() {
+        return renderCache;
+    }
+
+    /**
+     * Sets an in memory cache of serialized images consulted by {@link #getImageData(SaveTypes)},
+     * {@link #getImageBuffer(SaveTypes)} and the saveImage methods. When an image with the same parameters was rendered before, its bytes are served from
+     * the cache without encoding or drawing, so the encoded value, times and errors of this instance are not updated.
+     * The same cache can be shared between Barcode instances. (Default is null, no caching)
+     *
+     * @param renderCache Render cache, null to disable caching
+     */
+    public void setRenderCache(RenderCache renderCache) {
+        this.renderCache = renderCache;
+    }
+
+    /**
+     * Gets the persistent cache consulted before rendering image data, if set
+     *
+     * @return Disk render cache, null if image data is not cached on disk
+     */
+    public DiskRenderCache getDiskRenderCache() {
+        return diskRenderCache;
+    }
+
+    /**
+     * Sets a persistent cache of serialized images consulted after the render cache (if any) and before rendering.
+     * Images found on disk are added to the render cache. As with the render cache, the encoded value, times and
+     * errors of this instance are not updated when an image is served from disk.
+     * The same cache can be shared between Barcode instances. (Default is null, no caching)
+     *
+     * @param diskRenderCache Disk render cache, null to disable caching on disk
+     */
+    public void setDiskRenderCache(DiskRenderCache diskRenderCache) {
+        this.diskRenderCache = diskRenderCache;
+    }
+
+    /**
+     * Gets the renderer that draws the barcode image
+     *
+     * @return Renderer set on this instance, otherwise the renderer found with {@link ServiceLoader}
+     */
+    public BarcodeRenderer getRenderer() {
+        if (renderer != null) {
+            return renderer;
+        }
+
+        BarcodeRenderer found = DefaultRenderer.INSTANCE;
+        if (found == null) {
+            throw new IllegalStateException("EGENERATE_IMAGE-4: No barcode renderer found. (Add barcode-awt to draw images)");
+        }
+        return found;
+    }
+
+    /**
+     * Sets the renderer that draws the barcode image. (Default is null, the first {@link BarcodeRenderer} found
+     * with {@link ServiceLoader})
+     *
+     * @param renderer Renderer, null for the default
+     */
+    public void setRenderer(BarcodeRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Looks up the default renderer on first use, so no drawing classes are loaded until an image is requested.
+     */
+    private static final class DefaultRenderer {
+        private static final BarcodeRenderer INSTANCE = load();
+
+        private static BarcodeRenderer load() {
+            Iterator<BarcodeRenderer> renderers = ServiceLoader.load(BarcodeRenderer.class, Barcode.class.getClassLoader()).iterator();
+            return renderers.hasNext() ? renderers.next() : null;
+        }
+    }
+
+    /**
+     * Gets the metrics listener new Barcode instances start with
+     *
+     * @return Default metrics listener, null if none
+     */
+    public static BarcodeMetricsListener getDefaultMetricsListener() {
+        return defaultMetricsListener;
+    }
+
+    /**
+     * Sets the metrics listener new Barcode instances start with. Existing instances keep their listener.
+     * (Default is null, no metrics)
+     *
+     * @param listener Default metrics listener, null for none
+     */
+    public static void setDefaultMetricsListener(BarcodeMetricsListener listener) {
+        defaultMetricsListener = listener;
+    }
+
+    /**
+     * Gets the listener notified of the timing of every encode, if set
+     *
+     * @return Metrics listener, null if none
+     */
+    public BarcodeMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Sets a listener notified of the symbology, payload length, outcome and per stage durations of every encode.
+     * Unlike {@link #getEncodingTime()} and {@link #getDrawTime()} the listener sees every call, so a single thread
+     * safe listener such as {@link com.pnuema.java.barcode.metrics.HistogramMetricsListener} can aggregate the
+     * metrics of all Barcode instances. (Default is the default metrics listener)
+     *
+     * @param metricsListener Metrics listener, null for none
+     */
+    public void setMetricsListener(BarcodeMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Gets the list of errors encountered
+     *
+     * @return List of errors encountered during encoding
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the alignment of the barcode inside the image. (Not for Postnet or ITF-14)
+     *
+     * @return alignment
+     */
+    public AlignmentPositions getAlignmentPosition() {
+        return alignmentPosition;
+    }
+
+    /**
+     * Sets the alignment of the barcode inside the image. (Not for Postnet or ITF-14)
+     *
+     * @param alignment alignment
+     */
+    public void setAlignmentPosition(AlignmentPositions alignment) {
+        alignmentPosition = alignment;
+    }
+
+    /**
+     * Gets the clockwise rotation the barcode is drawn with. (Default is NORMAL)
+     *
+     * @return orientation
+     */
+    public Orientations getOrientation() {
+        return orientation;
+    }
+
+    /**
+     * Sets the clockwise rotation the barcode is drawn with. The bars are drawn rotated straight into the image, so
+     * rotated barcodes cost no more than upright ones. (Default is NORMAL)
+     *
+     * @param orientation orientation
+     */
+    public void setOrientation(Orientations orientation) {
+        this.orientation = orientation;
+    }
+
+    /**
+     * Encodes the raw data into binary form representing bars and spaces.  Also generates an Image of the barcode.
+     *
+     * @param iType          Type of encoding to use
+     * @param stringToEncode Raw data to encode
+     * @param width          Width of the resulting barcode.(pixels)
+     * @param height         Height of the resulting barcode.(pixels)
+     * @return Image representing the barcode
+     */
+    public Image encode(EncodingType iType, String stringToEncode, int width, int height) {
+        setWidth(width);
+        setHeight(height);
+        return encode(iType, stringToEncode);
+    }
+
+    /**
+     * Encodes the raw data into binary form representing bars and spaces.  Also generates an Image of the barcode.
+     *
+     * @param iType          Type of encoding to use
+     * @param stringToEncode Raw data to encode
+     * @param foreColor      Foreground color
+     * @param backColor      Background color
+     * @param width          Width of the resulting barcode (pixels)
+     * @param height         Height of the resulting barcode (pixels)
+     * @return Image representing the barcode
+     */
+    public Image encode(EncodingType iType, String stringToEncode, Color foreColor, Color backColor, int width, int height) {
+        setWidth(width);
+        setHeight(height);
+        return encode(iType, stringToEncode, foreColor, backColor);
+    }
+
+    /**
+     * Encodes the raw data into binary form representing bars and spaces.  Also generates an Image of the barcode
+     *
+     * @param iType          Type of encoding to use
+     * @param stringToEncode Raw data to encode
+     * @param foreColor      Foreground color
+     * @param backColor      Background color
+     * @return Image representing the barcode
+     */
+    public Image encode(EncodingType iType, String stringToEncode, Color foreColor, Color backColor) {
+        setBackColor(backColor);
+        setForeColor(foreColor);
+        return encode(iType, stringToEncode);
+    }
+
+    /**
+     * Encodes the raw data into binary form representing bars and spaces.  Also generates an Image of the barcode.
+     *
+     * @param iType          Type of encoding to use
+     * @param stringToEncode Raw data to encode
+     * @return Image representing the barcode
+     */
+    public Image encode(EncodingType iType, String stringToEncode) {
+        rawData = stringToEncode;
+        return encode(iType);
+    }
+
+    /**
+     * Encodes the raw data into binary form representing bars and spaces, and draws the barcode onto an area of an
+     * image instead of a new one. The pixels of the image are written in place, so a barcode composed into a larger
+     * label costs no intermediate image and no second copy.
+     *
+     * @param iType          Type of encoding to use
+     * @param stringToEncode Raw data to encode
+     * @param target         Image to draw on, large enough to hold the barcode at the position
+     * @param x              Left edge of the barcode in the image (pixels)
+     * @param y              Top edge of the barcode in the image (pixels)
+     */
+    public void encode(EncodingType iType, String stringToEncode, BufferedImage target, int x, int y) {
+        rawData = stringToEncode;
+        encodedType = iType;
+        encode(stages -> {
+            getRenderer().render(this, target, x, y, stages);
+            return null;
+        });
+    }
+
+    /**
+     * Encodes the raw data into binary form representing bars and spaces, and draws the barcode through a graphics
+     * (of an image, a printer or any other device) at a position, clipped to the width and height of the barcode.
+     *
+     * @param iType          Type of encoding to use
+     * @param stringToEncode Raw data to encode
+     * @param g              Graphics to draw with, left as it is
+     * @param x              Left edge of the barcode in the user space of the graphics
+     * @param y              Top edge of the barcode in the user space of the graphics
+     */
+    public void encode(EncodingType iType, String stringToEncode, Graphics2D g, int x, int y) {
+        rawData = stringToEncode;
+        encodedType = iType;
+        encode(stages -> {
+            getRenderer().render(this, g, x, y, stages);
+            return null;
+        });
+    }
+
+    /**
+     * Prepares the library for the first requests: see {@link #warmUp(Set, Set, int)}, run with
+     * {@link #DEFAULT_WARM_UP_ITERATIONS} iterations.
+     *
+     * @param types     Encoding types to warm up
+     * @param saveTypes File types to warm up the image writers of
+     */
+    public static void warmUp(Set<EncodingType> types, Set<SaveTypes> saveTypes) {
+        warmUp(types, saveTypes, DEFAULT_WARM_UP_ITERATIONS);
+    }
+
+    /**
+     * Prepares the library for the first requests, for example from a readiness probe. The symbology tables of the
+     * encoding types are loaded and a sample value of each is encoded iterations times so the JIT compiles the
+     * encoding loops. Each sample is then drawn once with its label, loading the renderer and label font, and every
+     * file type is written iterations / 100 times (at least once) cycling through the samples, loading the image
+     * writers and compiling the drawing and compression loops.
+     * Encoding types that can not encode their sample value are skipped. No metrics are reported and no caches are
+     * used.
+     *
+     * @param types      Encoding types to warm up
+     * @param saveTypes  File types to warm up the image writers of
+     * @param iterations Number of synthetic encodes of each encoding type
+     */
+    public static void warmUp(Set<EncodingType> types, Set<SaveTypes> saveTypes, int iterations) {
+        EncodingType[] warmed = new BarcodeEncoder().warmUp(types, iterations).toArray(new EncodingType[0]);
+        if (warmed.length == 0) {
+            return;
+        }
+
+        Barcode barcode = new Barcode();
+        barcode.setMetricsListener(null);
+        barcode.setIncludeLabel(true);
+
+        for (EncodingType type : warmed) {
+            barcode.warmUpSample(type);
+            barcode.encode();
+        }
+
+        if (saveTypes == null) {
+            return;
+        }
+
+        int images = Math.max(1, iterations / 100);
+        for (SaveTypes saveType : saveTypes) {
+            for (int i = 0; i < images; i++) {
+                barcode.warmUpSample(warmed[i % warmed.length]);
+                barcode.getImageData(saveType);
+            }
+        }
+    }
+
+    private void warmUpSample(EncodingType type) {
+        setEncodedType(type);
+        setRawData(BarcodeEncoder.getSampleData(type));
+    }
+
+    /**
+     * Encodes the raw data into binary form representing bars and spaces.  Also generates an Image of the barcode.
+     *
+     * @param iType Type of encoding to use
+     * @return Image representation of the encoded value
+     */
+    private Image encode(EncodingType iType) {
+        encodedType = iType;
+        return encode();
+    }
+
+    /**
+     * Encodes the raw data into binary form representing bars and spaces.
+     *
+     * @return Image representation of the encoded value
+     */
+    private Image encode() {
+        return encode(stages -> getRenderer().render(this, stages));
+    }
+
+    /**
+     * Encodes the raw data into binary form representing bars and spaces and draws it with a call to the renderer.
+     *
+     * @param draw Draws the barcode, notifying the stages it is given
+     * @return Image drawn, null if drawn onto a target of the caller
+     */
+    private BufferedImage encode(Function<Consumer<EncodeEvent.Stage>, BufferedImage> draw) {
+        startStages();
+        try {
+            BufferedImage image = encodeStages(draw);
+            publishMetrics(null);
+            return image;
+        } catch (RuntimeException ex) {
+            publishMetrics(ex);
+            throw ex;
+        }
+    }
+
+    private BufferedImage encodeStages(Function<Consumer<EncodeEvent.Stage>, BufferedImage> draw) {
+        long dtStartTime = System.nanoTime();
+
+        encodedValue = "";
+        countryAssigningManufacturerCode = "N/A";
+        errors = new ArrayList<>();
+
+        EncodedBarcode encoded = encoder.encode(encodedType, rawData, errors, this::endStage);
+        encodedValue = encoded.getEncodedValue();
+        rawData = encoded.getRawData();
+
+        BufferedImage image = generateImage(draw);
+
+        setEncodingTime((System.nanoTime() - dtStartTime) / 1000000.0);
+
+        return image;
+    }
+
+    /**
+     * Gets a bitmap representation of the encoded data
+     *
+     * @param draw Draws the barcode, notifying the stages it is given
+     * @return Bitmap of encoded value, null if drawn onto a target of the caller
+     */
+    private BufferedImage generateImage(Function<Consumer<EncodeEvent.Stage>, BufferedImage> draw) {
+        if (encodedValue.isEmpty()) {
+            throw new IllegalArgumentException("EGENERATE_IMAGE-1: Must be encoded first.");
+        }
+
+        long dtStartTime = System.nanoTime();
+        BarcodeRenderEvent renderEvent = BarcodeEncoder.isFlightRecording() ? new BarcodeRenderEvent() : null;
+        if (renderEvent != null) {
+            renderEvent.begin();
+        }
+
+        BufferedImage bitmap = draw.apply(this::endRenderStage);
+
+        if (renderEvent != null) {
+            renderEvent.end();
+            if (renderEvent.shouldCommit()) {
+                renderEvent.symbology = encodedType.name();
+                renderEvent.width = getWidth();
+                renderEvent.height = getHeight();
+                renderEvent.includeLabel = isIncludeLabel();
+                renderEvent.commit();
+            }
+        }
+
+        setDrawTime((System.nanoTime() - dtStartTime) / 1000000.0);
+
+        return bitmap;
+    }
+
+    /**
+     * Marks the end of a drawing stage, timing the label drawn after the bars for the flight recorder.
+     *
+     * @param stage Stage that ended
+     */
+    private void endRenderStage(EncodeEvent.Stage stage) {
+        endStage(stage);
+
+        if (stage == EncodeEvent.Stage.RASTERIZE && isIncludeLabel() && BarcodeEncoder.isFlightRecording()) {
+            labelEvent = new BarcodeLabelEvent();
+            labelEvent.begin();
+        } else if (stage == EncodeEvent.Stage.LABEL && labelEvent != null) {
+            labelEvent.end();
+            if (labelEvent.shouldCommit()) {
+                labelEvent.symbology = encodedType.name();
+                labelEvent.width = getWidth();
+                labelEvent.height = getHeight();
+                labelEvent.fontSize = getLabelFont().getSize();
+                labelEvent.commit();
+            }
+            labelEvent = null;
+        }
+    }
+
+    /**
+     * Gets the bytes that represent the image
+     * @param savetype File type to put the data in before returning the bytes
+     * @return Bytes representing the encoded image
+     */
+    public byte[] getImageData(SaveTypes savetype) {
+        try {
+            if (!isCachingImageData()) {
+                return renderImageData(savetype);
+            }
+
+            ByteBuffer buffer = getCachedImageData(savetype);
+            byte[] imageData = new byte[buffer.remaining()];
+            buffer.get(imageData);
+            return imageData;
+        } catch (Exception ex) {
+            throw new IllegalStateException("EGETIMAGEDATA-1: Could not retrieve image data. " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Gets the bytes that represent the image without copying them out of the render cache.
+     * @param savetype File type to put the data in before returning the bytes
+     * @return Read only buffer of the bytes representing the encoded image
+     */
+    public ByteBuffer getImageBuffer(SaveTypes savetype) {
+        try {
+            if (!isCachingImageData()) {
+                return ByteBuffer.wrap(renderImageData(savetype)).asReadOnlyBuffer();
+            }
+
+            return getCachedImageData(savetype);
+        } catch (Exception ex) {
+            throw new IllegalStateException("EGETIMAGEDATA-1: Could not retrieve image data. " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Saves an encoded image to a specified file and type
+     * @param filename Filename to save to
+     * @param fileType Format to use
+     * @throws IOException throws this if writing the image to the file causes an Exception
+     */
+    public void saveImage(String filename, SaveTypes fileType) throws IOException {
+        try {
+            if (isCachingImageData()) {
+                ByteBuffer buffer = getCachedImageData(fileType);
+                try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+                return;
+            }
+
+            try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(Paths.get(filename)))) {
+                serializeImage(fileType, stream);
+            }
+        } catch (IOException ex) {
+            throw new IOException("ESAVEIMAGE-1: Could not save image.\n\n=======================\n\n" + ex.getMessage());
+        }
+    }
+
+    /**
+     * Saves an encoded image to a specified stream
+     *
+     * @param stream   Stream to write image to
+     * @param fileType Format to use
+     * @throws IOException throws this if writing the image to the stream causes an Exception
+     */
+    public void saveImage(OutputStream stream, SaveTypes fileType) throws IOException {
+        try {
+            if (isCachingImageData()) {
+                Channels.newChannel(stream).write(getCachedImageData(fileType));
+                return;
+            }
+
+            serializeImage(fileType, stream);
+        } catch (Exception ex) {
+            throw new IOException("ESAVEIMAGE-2: Could not save image.\n\n=======================\n\n" + ex.getMessage());
+        }
+    }
+
+    private boolean isCachingImageData() {
+        return renderCache != null || diskRenderCache != null;
+    }
+
+    /**
+     * Gets the serialized image from the render cache, then the disk render cache, rendering it only if neither
+     * holds it. Newly rendered images are added to both caches and images read from disk to the render cache.
+     * @param saveType File type to put the data in
+     * @return Read only buffer of the bytes representing the encoded image
+     * @throws IOException throws this if serializing the image causes an Exception
+     */
+    private ByteBuffer getCachedImageData(SaveTypes saveType) throws IOException {
+        String key = getRenderKey(saveType);
+
+        if (renderCache != null) {
+            ByteBuffer cached = renderCache.getBuffer(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        byte[] imageData = diskRenderCache == null ? null : diskRenderCache.get(key);
+        if (imageData == null) {
+            imageData = renderImageData(saveType);
+            if (diskRenderCache != null) {
+                diskRenderCache.put(key, imageData);
+            }
+        }
+
+        if (renderCache != null) {
+            renderCache.put(key, imageData);
+        }
+
+        return ByteBuffer.wrap(imageData).asReadOnlyBuffer();
+    }
+
+    /**
+     * Encodes and draws the image and serializes it in the given format.
+     * @param saveType File type to put the data in
+     * @return Bytes representing the encoded image
+     * @throws IOException throws this if serializing the image causes an Exception
+     */
+    private byte[] renderImageData(SaveTypes saveType) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        serializeImage(saveType, stream);
+        return stream.toByteArray();
+    }
+
+    /**
+     * Encodes and draws the image and writes it with the renderer, reporting serialization as a stage of the same
+     * encode to the metrics listener.
+     * @param saveType File type to put the data in
+     * @param stream   Stream to write the image to
+     * @throws IOException throws this if writing the image causes an Exception
+     */
+    private void serializeImage(SaveTypes saveType, OutputStream stream) throws IOException {
+        startStages();
+        try {
+            Image encodedImage = encodeStages(stages -> getRenderer().render(this, stages));
+            if (encodedImage != null) {
+                BarcodeSerializeEvent serializeEvent = BarcodeEncoder.isFlightRecording() ? new BarcodeSerializeEvent() : null;
+                if (serializeEvent != null) {
+                    serializeEvent.begin();
+                }
+
+                long bytes = getRenderer().write((RenderedImage) encodedImage, getImageFormatFromFileType(saveType), stream);
+                serializedFormat = saveType.name();
+                serializedBytes = bytes;
+
+                if (serializeEvent != null) {
+                    serializeEvent.end();
+                    if (serializeEvent.shouldCommit()) {
+                        serializeEvent.symbology = encodedType.name();
+                        serializeEvent.format = saveType.name();
+                        serializeEvent.width = ((RenderedImage) encodedImage).getWidth();
+                        serializeEvent.height = ((RenderedImage) encodedImage).getHeight();
+                        serializeEvent.bytes = bytes;
+                        serializeEvent.commit();
+                    }
+                }
+            }
+            endStage(EncodeEvent.Stage.SERIALIZE);
+            publishMetrics(null);
+        } catch (IOException | RuntimeException ex) {
+            publishMetrics(ex);
+            throw ex;
+        }
+    }
+
+    private void startStages() {
+        if (metricsListener == null) {
+            return;
+        }
+
+        Arrays.fill(stageNanos, -1);
+        payloadLength = rawData == null ? 0 : rawData.length();
+        serializedFormat = null;
+        serializedBytes = -1;
+
+        try {
+            metricsListener.onEncodeStart(encodedType);
+        } catch (RuntimeException ex) {
+            //metrics must never fail an encode
+        }
+
+        stageStart = System.nanoTime();
+    }
+
+    private void endStage(EncodeEvent.Stage stage) {
+        if (metricsListener == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        stageNanos[stage.ordinal()] = now - stageStart;
+        stageStart = now;
+    }
+
+    private void publishMetrics(Exception failure) {
+        BarcodeMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return;
+        }
+
+        try {
+            listener.onEncode(new EncodeEvent(encodedType, payloadLength, stageNanos, failure == null ? null : String.valueOf(failure.getMessage()), serializedFormat, serializedBytes));
+        } catch (RuntimeException ex) {
+            //metrics must never fail an encode
+        }
+    }
+
+    /**
+     * Builds the canonical description of every parameter that affects the serialized image.
+     * Width and height are left out when they are calculated from the bar width and aspect ratio.
+     * @param saveType File type the image is put in
+     * @return Render cache key
+     */
+    private String getRenderKey(SaveTypes saveType) {
+        StringBuilder key = new StringBuilder(96 + rawData.length());
+        key.append(encodedType).append('|').append(rawData.length()).append(':').append(rawData);
+        key.append('|').append(barWidth == null ? String.valueOf(width) : "b" + barWidth);
+        key.append('|').append(aspectRatio == null ? String.valueOf(height) : "r" + aspectRatio);
+        key.append('|').append(Integer.toHexString(getForeColor().getRGB()));
+        key.append('|').append(Integer.toHexString(getBackColor().getRGB()));
+        key.append('|').append(alignmentPosition);
+        if (orientation != Orientations.NORMAL) {
+            key.append('|').append(orientation);
+        }
+        key.append('|').append(includeLabel);
+        if (includeLabel) {
+            key.append('|').append(labelPositions).append('|').append(standardizeLabel);
+            Font font = getLabelFont();
+            if (embeddedLabelFont && OcrB.canDisplay(alternateLabel == null ? rawData : alternateLabel)) {
+                //the family comes from the font stack, the embedded font only uses the size
+                key.append("|ocrb,").append(font.getSize());
+            } else {
+                key.append('|').append(font.getFamily()).append(',').append(font.getStyle()).append(',').append(font.getSize());
+            }
+            if (alternateLabel != null) {
+                key.append('|').append(alternateLabel.length()).append(':').append(alternateLabel);
+            }
+        }
+        key.append('|').append(getImageFormatFromFileType(saveType));
+        return key.toString();
+    }
+
+    static String getImageFormatFromFileType(SaveTypes saveType) {
+        switch (saveType) {
+            case BMP:
+                return "bmp";
+            case GIF:
+                return "gif";
+            case PNG:
+                return "png";
+            case TIFF:
+                return "tif";
+            case JPG:
+            default:
+                return "jpg";
+        }
+    }
+
+}
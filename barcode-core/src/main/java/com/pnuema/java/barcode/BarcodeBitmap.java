@@ -0,0 +1,507 @@
+package com.pnuema.java.barcode;
+
+import com.pnuema.java.barcode.font.GlyphCoverage;
+import com.pnuema.java.barcode.font.OcrB;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Rasterizes encoded barcodes into rows of dots for thermal print heads and native consumers: every row holds the dots
+ * of one line of the head, packed 1 bit per dot (most significant bit first, 1 for a dot that is printed) or 1 byte of
+ * gray per dot. Sizes are given in millimeters and rounded to whole dots at the resolution of the head, so bars are
+ * always whole dots wide. The rows are written straight into a byte array or buffer with the stride of the caller,
+ * without images or AWT, and the label (when included) is drawn with the embedded OCR-B font.
+ * Buffers are written in place with absolute puts, so a direct or memory-mapped buffer shared with native code or
+ * another process receives the rows without a copy on the heap, and rendering into a buffer allocates nothing once
+ * the label glyphs are cached.
+ * Instances can be shared between threads once configured.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class BarcodeBitmap {
+    /**
+     * The Formats enum represents how the dots of a row are stored.
+     */
+    public enum Formats {
+        /**
+         * 1 bit per dot, 8 dots per byte with the leftmost dot in the most significant bit, 1 for a printed (black) dot.
+         */
+        MONO,
+        /**
+         * 1 byte per dot, 0 for a printed (black) dot up to 255 for white, with the edges of the label in the grays
+         * between.
+         */
+        GRAY
+    }
+
+    //coverage from which a label dot is printed in MONO
+    private static final int LABEL_THRESHOLD = 128;
+
+    private final int dotsPerLine;
+    private final int dpi;
+    private double moduleWidth = 0.33;
+    private double barHeight = 15;
+    private double labelHeight = 3;
+    private int darknessCompensation;
+    private boolean includeLabel;
+    private Barcode.AlignmentPositions alignmentPosition = Barcode.AlignmentPositions.CENTER;
+    private Formats format = Formats.MONO;
+    private volatile LabelGlyphs labelGlyphs;
+
+    /**
+     * Constructor.
+     *
+     * @param dotsPerLine Number of dots across the print head
+     * @param dpi         Resolution of the print head (dots per inch)
+     */
+    public BarcodeBitmap(int dotsPerLine, int dpi) {
+        this.dotsPerLine = dotsPerLine;
+        this.dpi = dpi;
+    }
+
+    /**
+     * Gets the number of dots across the print head
+     *
+     * @return Dots per line
+     */
+    public int getDotsPerLine() {
+        return dotsPerLine;
+    }
+
+    /**
+     * Gets the resolution of the print head
+     *
+     * @return Dots per inch
+     */
+    public int getDpi() {
+        return dpi;
+    }
+
+    /**
+     * Gets the width of the narrowest bar or space. (Default is 0.33 mm)
+     *
+     * @return Module width in millimeters
+     */
+    public double getModuleWidth() {
+        return moduleWidth;
+    }
+
+    /**
+     * Sets the width of the narrowest bar or space, rounded to whole dots. (Default is 0.33 mm)
+     *
+     * @param moduleWidth Module width in millimeters
+     */
+    public void setModuleWidth(double moduleWidth) {
+        this.moduleWidth = moduleWidth;
+    }
+
+    /**
+     * Gets the height of the bars. (Default is 15 mm)
+     *
+     * @return Bar height in millimeters
+     */
+    public double getBarHeight() {
+        return barHeight;
+    }
+
+    /**
+     * Sets the height of the bars, rounded to whole dots. (Default is 15 mm)
+     *
+     * @param barHeight Bar height in millimeters
+     */
+    public void setBarHeight(double barHeight) {
+        this.barHeight = barHeight;
+    }
+
+    /**
+     * Gets the height of the label font. (Default is 3 mm)
+     *
+     * @return Label height in millimeters
+     */
+    public double getLabelHeight() {
+        return labelHeight;
+    }
+
+    /**
+     * Sets the height of the label font, rounded to whole dots. (Default is 3 mm)
+     *
+     * @param labelHeight Label height in millimeters
+     */
+    public void setLabelHeight(double labelHeight) {
+        this.labelHeight = labelHeight;
+    }
+
+    /**
+     * Gets the number of dots every bar is made narrower by, to make up for dots that spread when printed. (Default is 0)
+     *
+     * @return Bar width reduction in dots
+     */
+    public int getDarknessCompensation() {
+        return darknessCompensation;
+    }
+
+    /**
+     * Sets the number of dots every bar is made narrower by, to make up for dots that spread when printed. Half of the
+     * reduction is taken from each edge of the bar, and it is limited so every bar keeps at least one dot of its own
+     * width. (Default is 0)
+     *
+     * @param darknessCompensation Bar width reduction in dots
+     */
+    public void setDarknessCompensation(int darknessCompensation) {
+        this.darknessCompensation = darknessCompensation;
+    }
+
+    /**
+     * Gets whether the raw data is printed under the bars. (Default is false)
+     *
+     * @return True if the label is included
+     */
+    public boolean isIncludeLabel() {
+        return includeLabel;
+    }
+
+    /**
+     * Sets whether the raw data is printed under the bars with the embedded OCR-B font. (Default is false)
+     *
+     * @param includeLabel True to include the label
+     */
+    public void setIncludeLabel(boolean includeLabel) {
+        this.includeLabel = includeLabel;
+    }
+
+    /**
+     * Gets the alignment of the barcode on the line. (Default is CENTER)
+     *
+     * @return alignment
+     */
+    public Barcode.AlignmentPositions getAlignmentPosition() {
+        return alignmentPosition;
+    }
+
+    /**
+     * Sets the alignment of the barcode on the line. (Default is CENTER)
+     *
+     * @param alignment alignment
+     */
+    public void setAlignmentPosition(Barcode.AlignmentPositions alignment) {
+        this.alignmentPosition = alignment;
+    }
+
+    /**
+     * Gets how the dots of a row are stored. (Default is MONO)
+     *
+     * @return format
+     */
+    public Formats getFormat() {
+        return format;
+    }
+
+    /**
+     * Sets how the dots of a row are stored. (Default is MONO)
+     *
+     * @param format format
+     */
+    public void setFormat(Formats format) {
+        this.format = format;
+    }
+
+    /**
+     * Gets the width of one module
+     *
+     * @return Module width in dots, at least 1
+     */
+    public int getModuleDots() {
+        return Math.max(1, toDots(moduleWidth));
+    }
+
+    /**
+     * Gets the number of bytes holding the dots of one line
+     *
+     * @return Smallest stride in bytes
+     */
+    public int getMinimumStride() {
+        return format == Formats.GRAY ? dotsPerLine : (dotsPerLine + 7) / 8;
+    }
+
+    /**
+     * Gets the width a barcode takes on the line
+     *
+     * @param encoded Encoded barcode
+     * @return Width in dots
+     */
+    public int getWidth(EncodedBarcode encoded) {
+        return encoded.getEncodedValue().length() * getModuleDots();
+    }
+
+    /**
+     * Gets the number of lines a barcode takes, with its label when included
+     *
+     * @param encoded Encoded barcode
+     * @return Height in lines
+     */
+    public int getHeight(EncodedBarcode encoded) {
+        int height = Math.max(1, toDots(barHeight));
+        if (includeLabel) {
+            int labelSize = getLabelSize();
+            height += getModuleDots() + OcrB.getHeight(labelSize);
+        }
+        return height;
+    }
+
+    /**
+     * Rasterizes a barcode into new rows of the smallest stride.
+     *
+     * @param encoded Encoded barcode
+     * @return Rows of the barcode, {@link #getHeight(EncodedBarcode)} rows of {@link #getMinimumStride()} bytes
+     */
+    public byte[] render(EncodedBarcode encoded) {
+        byte[] rows = new byte[getHeight(encoded) * getMinimumStride()];
+        render(encoded, ByteBuffer.wrap(rows), 0, getMinimumStride());
+        return rows;
+    }
+
+    /**
+     * Rasterizes a barcode into rows of a byte array.
+     *
+     * @param encoded Encoded barcode
+     * @param target  Array to write the rows to
+     * @param offset  Index of the first byte of the first row
+     * @param stride  Distance between the starts of two rows in bytes, at least {@link #getMinimumStride()}
+     * @return Number of rows written
+     */
+    public int render(EncodedBarcode encoded, byte[] target, int offset, int stride) {
+        return render(encoded, ByteBuffer.wrap(target), offset, stride);
+    }
+
+    /**
+     * Rasterizes a barcode into rows of a buffer, such as a direct buffer handed to native code or a buffer mapped from
+     * a file shared with another process ({@code FileChannel.map(READ_WRITE, ...)}). The dots of each row are written
+     * over the first {@link #getMinimumStride()} bytes of the row with absolute puts, the rest of the stride and the
+     * position of the buffer are left as they are.
+     *
+     * @param encoded Encoded barcode
+     * @param target  Buffer to write the rows to
+     * @param offset  Index of the first byte of the first row
+     * @param stride  Distance between the starts of two rows in bytes, at least {@link #getMinimumStride()}
+     * @return Number of rows written
+     */
+    public int render(EncodedBarcode encoded, ByteBuffer target, int offset, int stride) {
+        String encodedValue = encoded.getEncodedValue();
+        int moduleDots = getModuleDots();
+        int width = encodedValue.length() * moduleDots;
+        int lineBytes = getMinimumStride();
+        int height = getHeight(encoded);
+        boolean gray = format == Formats.GRAY;
+
+        if (width > dotsPerLine) {
+            throw new IllegalArgumentException("EBITMAP-1: Barcode of " + width + " dots does not fit a line of " + dotsPerLine + " dots.");
+        }
+        if (stride < lineBytes) {
+            throw new IllegalArgumentException("EBITMAP-2: Stride of " + stride + " bytes is shorter than a line of " + lineBytes + " bytes.");
+        }
+        if (offset < 0 || offset + (long) (height - 1) * stride + lineBytes > target.limit()) {
+            throw new IllegalArgumentException("EBITMAP-3: Buffer too small for " + height + " rows of " + stride + " bytes at offset " + offset + ".");
+        }
+
+        int left;
+        switch (alignmentPosition) {
+            case LEFT:
+                left = 0;
+                break;
+            case RIGHT:
+                left = dotsPerLine - width;
+                break;
+            case CENTER:
+            default:
+                left = (dotsPerLine - width) / 2;
+                break;
+        }
+
+        int barRows = Math.max(1, toDots(barHeight));
+
+        if (encoded.getEncodingType() == EncodingType.PostNet) {
+            //tall bars for 1, every bar reaches down the lower 40% of the height, half a module wide
+            int tallRows = barRows - (int) (barRows * 0.4f);
+            int shortRow = offset + tallRows * stride;
+            clearRow(target, offset, lineBytes, gray);
+            if (tallRows < barRows) {
+                clearRow(target, shortRow, lineBytes, gray);
+            }
+            for (int pos = 0; pos < encodedValue.length(); pos++) {
+                int start = left + pos * moduleDots;
+                int end = start + Math.max(1, moduleDots / 2);
+                if (encodedValue.charAt(pos) == '1') {
+                    fillBar(target, offset, start, end, gray);
+                }
+                if (tallRows < barRows) {
+                    fillBar(target, shortRow, start, end, gray);
+                }
+            }
+
+            for (int row = 1; row < barRows; row++) {
+                if (row != tallRows) {
+                    copyRow(target, row < tallRows ? offset : shortRow, offset + row * stride, lineBytes);
+                }
+            }
+        } else {
+            //every bar row is the same, draw the first and copy it down
+            clearRow(target, offset, lineBytes, gray);
+            int pos = 0;
+            while (pos < encodedValue.length()) {
+                if (encodedValue.charAt(pos) != '1') {
+                    pos++;
+                    continue;
+                }
+
+                int end = pos;
+                while (end < encodedValue.length() && encodedValue.charAt(end) == '1') {
+                    end++;
+                }
+
+                //the reduction is taken from within the bar and leaves at least one dot of it
+                int barStart = left + pos * moduleDots;
+                int barEnd = left + end * moduleDots;
+                int reduction = Math.max(0, Math.min(darknessCompensation, barEnd - barStart - 1));
+                fillBar(target, offset, barStart + reduction / 2, barEnd - (reduction - reduction / 2), gray);
+                pos = end;
+            }
+
+            for (int row = 1; row < barRows; row++) {
+                copyRow(target, offset, offset + row * stride, lineBytes);
+            }
+        }
+
+        if (includeLabel) {
+            //blank rows between the bars and the label
+            for (int row = barRows; row < barRows + moduleDots; row++) {
+                clearRow(target, offset + row * stride, lineBytes, gray);
+            }
+            drawLabel(encoded.getRawData(), target, offset + (barRows + moduleDots) * stride, stride, left, width, gray);
+        }
+
+        return height;
+    }
+
+    //label rows centered under the bars: dots where the OCR-B glyphs cover at least half of the dot in MONO, the coverage as gray in GRAY
+    private void drawLabel(String text, ByteBuffer out, int offset, int stride, int left, int width, boolean gray) {
+        int labelSize = getLabelSize();
+        int ascent = OcrB.getAscent(labelSize);
+        int rows = OcrB.getHeight(labelSize);
+        int lineBytes = getMinimumStride();
+        int x = left + (width - OcrB.stringWidth(text, labelSize)) / 2;
+        GlyphCoverage[] glyphs = getGlyphs(labelSize);
+
+        for (int row = 0; row < rows; row++) {
+            int rowIndex = offset + row * stride;
+            clearRow(out, rowIndex, lineBytes, gray);
+
+            //row relative to the baseline, as the glyph tiles are placed
+            int y = row - ascent;
+            int pen = x;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (OcrB.canDisplay(c)) {
+                    GlyphCoverage glyph = glyphs[c - OcrB.FIRST];
+                    if (glyph == null) {
+                        glyph = OcrB.rasterize(c, labelSize);
+                        glyphs[c - OcrB.FIRST] = glyph;
+                    }
+
+                    int tileRow = y - glyph.getTop();
+                    if (tileRow >= 0 && tileRow < glyph.getHeight()) {
+                        for (int tileColumn = 0; tileColumn < glyph.getWidth(); tileColumn++) {
+                            int dot = pen + glyph.getLeft() + tileColumn;
+                            if (dot < 0 || dot >= dotsPerLine) {
+                                continue;
+                            }
+
+                            int coverage = glyph.getCoverage(tileColumn, tileRow);
+                            if (gray) {
+                                //neighbouring glyphs may overlap, keep the darker dot
+                                int index = rowIndex + dot;
+                                out.put(index, (byte) Math.min(out.get(index) & 0xff, 255 - coverage));
+                            } else if (coverage >= LABEL_THRESHOLD) {
+                                int index = rowIndex + (dot >> 3);
+                                out.put(index, (byte) (out.get(index) | (0x80 >>> (dot & 7))));
+                            }
+                        }
+                    }
+                }
+                pen += OcrB.getAdvance(labelSize);
+            }
+        }
+    }
+
+    //glyphs of one label size, rasterized the first time each character is printed
+    private GlyphCoverage[] getGlyphs(int labelSize) {
+        LabelGlyphs glyphs = labelGlyphs;
+        if (glyphs == null || glyphs.size != labelSize) {
+            glyphs = new LabelGlyphs(labelSize);
+            labelGlyphs = glyphs;
+        }
+        return glyphs.glyphs;
+    }
+
+    private int getLabelSize() {
+        return Math.max(1, toDots(labelHeight));
+    }
+
+    private int toDots(double millimeters) {
+        return (int) Math.round(millimeters * dpi / 25.4);
+    }
+
+    //sets the row to paper: no printed dots in MONO, white in GRAY
+    private static void clearRow(ByteBuffer out, int index, int lineBytes, boolean gray) {
+        long paper = gray ? -1L : 0L;
+        int i = 0;
+        for (; i + 8 <= lineBytes; i += 8) {
+            out.putLong(index + i, paper);
+        }
+        for (; i < lineBytes; i++) {
+            out.put(index + i, (byte) paper);
+        }
+    }
+
+    //prints the dots from start (inclusive) to end (exclusive) of the row, whole bytes at a time between the edges in MONO
+    private static void fillBar(ByteBuffer out, int index, int start, int end, boolean gray) {
+        if (gray) {
+            for (int dot = start; dot < end; dot++) {
+                out.put(index + dot, (byte) 0);
+            }
+            return;
+        }
+
+        int dot = start;
+        while (dot < end && (dot & 7) != 0) {
+            out.put(index + (dot >> 3), (byte) (out.get(index + (dot >> 3)) | (0x80 >>> (dot & 7))));
+            dot++;
+        }
+        while (dot + 8 <= end) {
+            out.put(index + (dot >> 3), (byte) 0xff);
+            dot += 8;
+        }
+        while (dot < end) {
+            out.put(index + (dot >> 3), (byte) (out.get(index + (dot >> 3)) | (0x80 >>> (dot & 7))));
+            dot++;
+        }
+    }
+
+    //copies a finished row within the buffer, 8 bytes at a time
+    private static void copyRow(ByteBuffer out, int from, int to, int lineBytes) {
+        int i = 0;
+        for (; i + 8 <= lineBytes; i += 8) {
+            out.putLong(to + i, out.getLong(from + i));
+        }
+        for (; i < lineBytes; i++) {
+            out.put(to + i, out.get(from + i));
+        }
+    }
+
+    private static final class LabelGlyphs {
+        private final int size;
+        private final GlyphCoverage[] glyphs = new GlyphCoverage[OcrB.LAST - OcrB.FIRST + 1];
+
+        private LabelGlyphs(int size) {
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.pnuema.java.barcode;
+
+import com.pnuema.java.barcode.cache.EncodingCache;
+import com.pnuema.java.barcode.jfr.BarcodeEncodeEvent;
+import com.pnuema.java.barcode.metrics.EncodeEvent;
+import jdk.jfr.FlightRecorder;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Encodes raw data into the bars and spaces of a symbology without drawing it.
+ * Unlike {@link Barcode} this class never touches java.awt, so pure encoding does not load the AWT toolkit, fonts or
+ * image classes. An instance holds no state besides its cache and can be shared between threads.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class BarcodeEncoder {
+    //flight recorder events are only created when the runtime has the jdk.jfr module
+    private static final boolean FLIGHT_RECORDER = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private volatile EncodingCache encodingCache;
+
+    /**
+     * Gets the cache consulted before encoding, if set
+     *
+     * @return Encoding cache, null if encodings are not cached
+     */
+    public EncodingCache getEncodingCache() {
+        return encodingCache;
+    }
+
+    /**
+     * Sets a cache to consult before encoding. Encodings found in the cache skip the symbology entirely.
+     * The same cache can be shared between encoders and Barcode instances. (Default is null, no caching)
+     *
+     * @param encodingCache Encoding cache, null to disable caching
+     */
+    public void setEncodingCache(EncodingCache encodingCache) {
+        this.encodingCache = encodingCache;
+    }
+
+    /**
+     * Encodes the raw data into binary form representing bars and spaces.
+     *
+     * @param type Type of encoding to use
+     * @param data Raw data to encode
+     * @return Encoded value and raw data as produced by the symbology
+     */
+    public EncodedBarcode encode(EncodingType type, String data) {
+        return encode(type, data, null, null);
+    }
+
+    /**
+     * Encodes the raw data, collecting the errors reported by the symbology and marking the end of the validate and
+     * encode stages.
+     *
+     * @param type   Type of encoding to use
+     * @param data   Raw data to encode
+     * @param errors Receives the errors of the symbology, even when it throws (can be null)
+     * @param stages Notified at the end of each stage (can be null)
+     * @return Encoded value and raw data as produced by the symbology
+     */
+    EncodedBarcode encode(EncodingType type, String data, List<String> errors, Consumer<EncodeEvent.Stage> stages) {
+        BarcodeEncodeEvent encodeEvent = isFlightRecording() ? new BarcodeEncodeEvent() : null;
+        if (encodeEvent != null) {
+            encodeEvent.begin();
+        }
+
+        //make sure there is something to encode
+        if (data == null || data.trim().isEmpty()) {
+            throw new IllegalArgumentException("EENCODE-1: Input data not allowed to be blank.");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("EENCODE-2: Symbology type not allowed to be unspecified.");
+        }
+
+        if (stages != null) {
+            stages.accept(EncodeEvent.Stage.VALIDATE);
+        }
+
+        EncodingCache cache = encodingCache;
+        EncodingCache.Entry cached = cache == null ? null : cache.get(type, data);
+        EncodedBarcode encoded;
+        if (cached != null) {
+            encoded = new EncodedBarcode(type, cached.getRawData(), cached.getEncodedValue(), true);
+        } else {
+            IBarcode symbology = SymbologyRegistry.getEncoder(type).create(data);
+            symbology.clearErrors();
+
+            String encodedValue;
+            try {
+                encodedValue = symbology.getEncodedValue();
+            } finally {
+                if (errors != null) {
+                    errors.addAll(symbology.getErrors());
+                }
+            }
+            encoded = new EncodedBarcode(type, symbology.getRawData(), encodedValue, false);
+
+            if (cache != null) {
+                cache.put(type, data, encoded.getRawData(), encodedValue);
+            }
+        }
+
+        if (stages != null) {
+            stages.accept(EncodeEvent.Stage.ENCODE);
+        }
+
+        if (encodeEvent != null) {
+            encodeEvent.end();
+            if (encodeEvent.shouldCommit()) {
+                encodeEvent.symbology = type.name();
+                encodeEvent.payloadLength = data.length();
+                encodeEvent.encodedLength = encoded.getEncodedValue().length();
+                encodeEvent.cached = encoded.isCached();
+                encodeEvent.commit();
+            }
+        }
+
+        return encoded;
+    }
+
+    /**
+     * Initializes the symbologies of the encoding types and encodes a sample value of each one the given number of
+     * times, so their tables are loaded and their encoding loops are compiled by the JIT before real requests arrive.
+     * The encoding cache is bypassed. Encoding types that can not encode their sample value are skipped.
+     *
+     * @param types      Encoding types to warm up
+     * @param iterations Number of times the sample value of each encoding type is encoded
+     * @return Encoding types that were warmed up
+     */
+    public Set<EncodingType> warmUp(Set<EncodingType> types, int iterations) {
+        Set<EncodingType> warmed = EnumSet.noneOf(EncodingType.class);
+        if (types == null) {
+            return warmed;
+        }
+
+        for (EncodingType type : types) {
+            String data = getSampleData(type);
+            try {
+                SymbologyEncoder encoder = SymbologyRegistry.getEncoder(type);
+                encoder.create(data).getEncodedValue();
+                for (int i = 1; i < iterations; i++) {
+                    encoder.create(data).getEncodedValue();
+                }
+                warmed.add(type);
+            } catch (RuntimeException ex) {
+                //not encodable, nothing to warm up
+            }
+        }
+
+        return warmed;
+    }
+
+    /**
+     * Gets a valid value to encode for an encoding type.
+     *
+     * @param type Type of encoding
+     * @return Sample raw data
+     */
+    static String getSampleData(EncodingType type) {
+        switch (type) {
+            case UPCA:
+            case UCC12:
+                return "03600029145";
+            case UPCE:
+                return "012345";
+            case UPC_SUPPLEMENTAL_2DIGIT:
+                return "12";
+            case UPC_SUPPLEMENTAL_5DIGIT:
+                return "52495";
+            case EAN13:
+            case UCC13:
+                return "501234567890";
+            case JAN13:
+                return "491234567890";
+            case BOOKLAND:
+            case ISBN:
+                return "978030640615";
+            case EAN8:
+                return "9638507";
+            case IATA2of5:
+                return "1234567890123456";
+            case Interleaved2of5_Mod10:
+                return "1234567";
+            case ITF14:
+                return "1234567890123";
+            case PostNet:
+                return "123456789";
+            case Codabar:
+                return "A12345678B";
+            case CODE11:
+            case USD8:
+                return "123-45";
+            case CODE39Extended:
+            case CODE128B:
+                return "Sku-12345";
+            case CODE39:
+            case CODE39_Mod43:
+            case LOGMARS:
+            case CODE93:
+            case TELEPEN:
+            case CODE128:
+            case CODE128A:
+                return "SKU-12345";
+            case CODE128C:
+                return "00106141411234567897";
+            case FIM:
+                return "A";
+            case PHARMACODE:
+                return "12345";
+            default:
+                return "12345678";
+        }
+    }
+
+    /**
+     * Gets whether flight recorder events should be created. The first event created initializes the whole flight
+     * recorder, so events are only created once a recording has been started.
+     *
+     * @return True if the flight recorder is available and initialized
+     */
+    static boolean isFlightRecording() {
+        return FLIGHT_RECORDER && FlightRecorder.isInitialized();
+    }
+}
@@ -0,0 +1,75 @@
+package com.pnuema.java.barcode;
+
+import com.pnuema.java.barcode.metrics.EncodeEvent;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.RenderedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * Draws an encoded barcode into a raster image and writes images in file formats (PNG, JPG ... etc.).
+ * {@link Barcode} looks up its renderer with {@link java.util.ServiceLoader} the first time an image is requested,
+ * so the drawing and image writing code and the AWT classes they need are only loaded when raster output is
+ * actually used.
+ */
+public interface BarcodeRenderer {
+    /**
+     * Draws the encoded value of the barcode using its size, colors, alignment and label settings.
+     * Renderers may update the width, height and label font of the barcode when they are calculated from the bar
+     * width, aspect ratio or standardized label.
+     *
+     * @param barcode Encoded barcode to draw
+     * @param stages  Notified at the end of the layout, rasterize and (when a label is drawn) label stages
+     * @return Image of the barcode
+     */
+    BufferedImage render(Barcode barcode, Consumer<EncodeEvent.Stage> stages);
+
+    /**
+     * Draws the encoded value of the barcode onto an area of an image, with the top left corner of the barcode at a
+     * position. Renderers that can should write the pixels of the image in place; by default the barcode is drawn
+     * into an image of its own that is then drawn onto the target.
+     *
+     * @param barcode Encoded barcode to draw
+     * @param target  Image to draw on
+     * @param x       Left edge of the barcode in the image
+     * @param y       Top edge of the barcode in the image
+     * @param stages  Notified at the end of the layout, rasterize and (when a label is drawn) label stages
+     */
+    default void render(Barcode barcode, BufferedImage target, int x, int y, Consumer<EncodeEvent.Stage> stages) {
+        BufferedImage image = render(barcode, stages);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(image, x, y, null);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Draws the encoded value of the barcode through a graphics, with the top left corner of the barcode at a
+     * position. By default the barcode is drawn into an image of its own that is then drawn with the graphics.
+     *
+     * @param barcode Encoded barcode to draw
+     * @param g       Graphics to draw with, left as it is
+     * @param x       Left edge of the barcode in the user space of the graphics
+     * @param y       Top edge of the barcode in the user space of the graphics
+     * @param stages  Notified at the end of the layout, rasterize and (when a label is drawn) label stages
+     */
+    default void render(Barcode barcode, Graphics2D g, int x, int y, Consumer<EncodeEvent.Stage> stages) {
+        g.drawImage(render(barcode, stages), x, y, null);
+    }
+
+    /**
+     * Writes an image in a file format.
+     *
+     * @param image      Image to write
+     * @param formatName Informal name of the format (png, jpg, bmp, gif or tif)
+     * @param stream     Stream to write the image to, left open
+     * @return Number of bytes written
+     * @throws IOException throws this if writing to the stream causes an Exception
+     */
+    long write(RenderedImage image, String formatName, OutputStream stream) throws IOException;
+}
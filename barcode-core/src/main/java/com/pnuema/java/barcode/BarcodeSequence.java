@@ -0,0 +1,223 @@
+package com.pnuema.java.barcode;
+
+import com.pnuema.java.barcode.symbologies.IncrementalEncoder;
+
+/**
+ * Generates the encoded values for a run of sequential serial numbers (prefix followed by a zero padded serial).
+ * For ITF-14, Interleaved 2 of 5 and numeric Code 128 payloads only the symbol characters of the digits that changed
+ * and the check digit are re-encoded from one value to the next. Other symbologies fall back to encoding every value.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class BarcodeSequence {
+    /**
+     * Receives the values of a sequence as they are generated.
+     */
+    public interface Sink {
+        /**
+         * Accepts one value of the sequence.
+         *
+         * @param rawData      Raw data of the value (including any check digit added by the symbology)
+         * @param encodedValue Encoded value representing bars and spaces
+         */
+        void accept(String rawData, String encodedValue);
+    }
+
+    private final EncodingType encodingType;
+    private final String prefix;
+    private final long start;
+    private final long step;
+    private final long count;
+    private int serialLength;
+
+    /**
+     * Constructor.
+     *
+     * @param encodingType Type of encoding to use
+     * @param prefix       Data placed in front of every serial number (can be empty)
+     * @param start        First serial number
+     * @param step         Amount added to the serial number for each value (must be greater than 0)
+     * @param count        Number of values to generate
+     */
+    public BarcodeSequence(EncodingType encodingType, String prefix, long start, long step, long count) {
+        this.encodingType = encodingType;
+        this.prefix = prefix == null ? "" : prefix;
+        this.start = start;
+        this.step = step;
+        this.count = count;
+    }
+
+    /**
+     * Gets the Encoded Type of the sequence
+     *
+     * @return encoded type
+     */
+    public EncodingType getEncodingType() {
+        return encodingType;
+    }
+
+    /**
+     * Gets the data placed in front of every serial number
+     *
+     * @return Prefix
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets the first serial number
+     *
+     * @return First serial number
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the amount added to the serial number for each value
+     *
+     * @return Step
+     */
+    public long getStep() {
+        return step;
+    }
+
+    /**
+     * Gets the number of values to generate
+     *
+     * @return Count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of digits the serial number is zero padded to. (Default is 0, the number of digits of the last serial)
+     *
+     * @return Serial number length
+     */
+    public int getSerialLength() {
+        return serialLength;
+    }
+
+    /**
+     * Sets the number of digits the serial number is zero padded to. (Default is 0, the number of digits of the last serial)
+     *
+     * @param serialLength Serial number length
+     */
+    public void setSerialLength(int serialLength) {
+        this.serialLength = serialLength;
+    }
+
+    /**
+     * Gets whether the values of this sequence are encoded incrementally rather than one by one.
+     *
+     * @return True if only the changed symbol characters are re-encoded, false otherwise
+     */
+    public boolean isIncremental() {
+        return checkNumericOnly(prefix) && IncrementalEncoder.forType(encodingType, prefix.length() + getPaddedLength()) != null;
+    }
+
+    /**
+     * Encodes every value of the sequence and streams the results to the sink in order.
+     *
+     * @param sink Receives the raw data and encoded value of each serial number
+     */
+    public void generate(Sink sink) {
+        if (encodingType == null) {
+            throw new IllegalArgumentException("ESEQUENCE-1: Symbology type not allowed to be unspecified.");
+        }
+
+        if (start < 0 || step <= 0 || count < 0) {
+            throw new IllegalArgumentException("ESEQUENCE-2: Start and count must not be negative and step must be greater than 0.");
+        }
+
+        if (count == 0) {
+            return;
+        }
+
+        int paddedLength = getPaddedLength();
+        char[] digits = (prefix + pad(start, paddedLength)).toCharArray();
+
+        //first value goes through the symbology to validate the data and report errors exactly like Barcode does
+        IBarcode first = SymbologyRegistry.getEncoder(encodingType).create(new String(digits));
+        String encodedValue = first.getEncodedValue();
+        sink.accept(first.getRawData(), encodedValue);
+
+        IncrementalEncoder encoder = checkNumericOnly(prefix) ? IncrementalEncoder.forType(encodingType, digits.length) : null;
+        if (encoder != null) {
+            encoder.reset(digits);
+        }
+
+        for (long i = 1; i < count; i++) {
+            int from = addStep(digits);
+
+            if (encoder != null) {
+                encoder.update(digits, from);
+                sink.accept(encoder.getRawData(), encoder.getEncodedValue());
+            } else {
+                IBarcode next = SymbologyRegistry.getEncoder(encodingType).create(new String(digits));
+                encodedValue = next.getEncodedValue();
+                sink.accept(next.getRawData(), encodedValue);
+            }
+        }
+    }
+
+    private int getPaddedLength() {
+        long last;
+        try {
+            last = Math.addExact(start, Math.multiplyExact(step, Math.max(count - 1, 0)));
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("ESEQUENCE-3: Last serial number of the sequence is out of range.");
+        }
+
+        int lastLength = String.valueOf(last).length();
+        if (serialLength > 0 && lastLength > serialLength) {
+            throw new IllegalArgumentException("ESEQUENCE-4: Last serial number (" + last + ") does not fit in " + serialLength + " digits.");
+        }
+
+        return Math.max(serialLength, lastLength);
+    }
+
+    /**
+     * Adds the step to the serial number digits in place.
+     *
+     * @param digits Prefix and serial number digits
+     * @return Index of the leftmost digit that changed
+     */
+    private int addStep(char[] digits) {
+        long carry = step;
+        int from = digits.length;
+
+        for (int i = digits.length - 1; carry > 0; i--) {
+            int digit = digits[i] - '0' + (int) (carry % 10);
+            carry /= 10;
+            if (digit >= 10) {
+                digit -= 10;
+                carry++;
+            }
+            digits[i] = (char) ('0' + digit);
+            from = i;
+        }
+
+        return from;
+    }
+
+    private static String pad(long value, int length) {
+        StringBuilder serial = new StringBuilder(length);
+        String digits = String.valueOf(value);
+        for (int i = digits.length(); i < length; i++) {
+            serial.append('0');
+        }
+        return serial.append(digits).toString();
+    }
+
+    private static boolean checkNumericOnly(String data) {
+        for (int i = 0; i < data.length(); i++) {
+            if (data.charAt(i) < '0' || data.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,56 @@
+package com.pnuema.java.barcode;
+
+/**
+ * Result of encoding raw data with a symbology: the bars and spaces and the raw data as produced by the symbology.
+ * Instances are immutable and never reference any image or font classes.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class EncodedBarcode {
+    private final EncodingType encodingType;
+    private final String rawData;
+    private final String encodedValue;
+    private final boolean cached;
+
+    EncodedBarcode(EncodingType encodingType, String rawData, String encodedValue, boolean cached) {
+        this.encodingType = encodingType;
+        this.rawData = rawData;
+        this.encodedValue = encodedValue;
+        this.cached = cached;
+    }
+
+    /**
+     * Gets the Encoded Type (ex. UPC-A, EAN-13 ... etc.)
+     *
+     * @return encoded type
+     */
+    public EncodingType getEncodingType() {
+        return encodingType;
+    }
+
+    /**
+     * Gets the raw data as produced by the symbology (including any check digit it added)
+     *
+     * @return Raw data
+     */
+    public String getRawData() {
+        return rawData;
+    }
+
+    /**
+     * Gets the encoded value representing bars and spaces
+     *
+     * @return Encoded value
+     */
+    public String getEncodedValue() {
+        return encodedValue;
+    }
+
+    /**
+     * Gets whether the encoded value was served from the encoding cache
+     *
+     * @return True if served from the encoding cache, false if encoded by the symbology
+     */
+    public boolean isCached() {
+        return cached;
+    }
+}
@@ -0,0 +1,14 @@
+package com.pnuema.java.barcode;
+
+/**
+ * Label options for differing barcode types. The labels themselves are drawn by the {@link BarcodeRenderer}.
+ */
+public final class Labels {
+    /**
+     * Location of the label in relation to the barcode.
+     */
+    public enum LabelPositions {TOP, BOTTOM}
+
+    private Labels() {
+    }
+}
@@ -0,0 +1,16 @@
+package com.pnuema.java.barcode;
+
+/**
+ * Creates the symbology object that encodes a single value.
+ * Encoders are stateless and shared, all per value state lives in the returned {@link IBarcode}.
+ */
+@FunctionalInterface
+public interface SymbologyEncoder {
+    /**
+     * Creates the symbology that encodes the given data.
+     *
+     * @param data Raw data to encode
+     * @return Symbology instance holding the data
+     */
+    IBarcode create(String data);
+}
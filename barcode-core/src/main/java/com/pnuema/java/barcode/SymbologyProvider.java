@@ -0,0 +1,17 @@
+package com.pnuema.java.barcode;
+
+/**
+ * Service provider interface for custom symbologies.
+ * Implementations are discovered with {@link java.util.ServiceLoader} the first time a symbology is looked up, and
+ * take precedence over the built in symbologies for the encoding types they support.
+ * Register an implementation in {@code META-INF/services/com.pnuema.java.barcode.SymbologyProvider}.
+ */
+public interface SymbologyProvider {
+    /**
+     * Gets the encoder for an encoding type.
+     *
+     * @param type Type of encoding
+     * @return Encoder for the encoding type, or null if this provider does not support it
+     */
+    SymbologyEncoder getEncoder(EncodingType type);
+}
@@ -0,0 +1,171 @@
+package com.pnuema.java.barcode;
+
+import com.pnuema.java.barcode.symbologies.*;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Maps every encoding type to the encoder that creates its symbology.
+ * Encoders are resolved on first use and kept in an {@link EnumMap}, so a lookup is a single array access and only
+ * the symbology classes (and their encoding tables) that are actually used are ever initialized.
+ * Lookups never lock, the map is replaced rather than modified when an encoder is added.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class SymbologyRegistry {
+    private static volatile EnumMap<EncodingType, SymbologyEncoder> encoders = new EnumMap<>(EncodingType.class);
+    private static List<SymbologyProvider> providers;
+
+    private SymbologyRegistry() {
+    }
+
+    /**
+     * Gets the encoder for an encoding type, resolving it on first use.
+     *
+     * @param type Type of encoding
+     * @return Encoder for the encoding type
+     */
+    public static SymbologyEncoder getEncoder(EncodingType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("EREGISTRY-1: Symbology type not allowed to be unspecified.");
+        }
+
+        SymbologyEncoder encoder = encoders.get(type);
+        return encoder != null ? encoder : resolve(type);
+    }
+
+    /**
+     * Registers an encoder for an encoding type, replacing the built in or previously registered encoder.
+     *
+     * @param type    Type of encoding
+     * @param encoder Encoder for the encoding type
+     */
+    public static synchronized void register(EncodingType type, SymbologyEncoder encoder) {
+        if (type == null || encoder == null) {
+            throw new IllegalArgumentException("EREGISTRY-2: Encoding type and encoder are required.");
+        }
+
+        EnumMap<EncodingType, SymbologyEncoder> copy = new EnumMap<>(encoders);
+        copy.put(type, encoder);
+        encoders = copy;
+    }
+
+    private static synchronized SymbologyEncoder resolve(EncodingType type) {
+        SymbologyEncoder encoder = encoders.get(type);
+        if (encoder != null) {
+            //resolved by another thread while waiting for the lock
+            return encoder;
+        }
+
+        for (SymbologyProvider provider : getProviders()) {
+            encoder = provider.getEncoder(type);
+            if (encoder != null) {
+                break;
+            }
+        }
+
+        if (encoder == null) {
+            encoder = builtIn(type);
+        }
+
+        EnumMap<EncodingType, SymbologyEncoder> copy = new EnumMap<>(encoders);
+        copy.put(type, encoder);
+        encoders = copy;
+
+        return encoder;
+    }
+
+    private static List<SymbologyProvider> getProviders() {
+        if (providers == null) {
+            List<SymbologyProvider> loaded = new ArrayList<>();
+            for (SymbologyProvider provider : ServiceLoader.load(SymbologyProvider.class)) {
+                loaded.add(provider);
+            }
+            providers = loaded;
+        }
+        return providers;
+    }
+
+    /**
+     * Gets the encoder of a built in symbology. Symbology classes are not initialized until the encoder is first used.
+     *
+     * @param type Type of encoding
+     * @return Encoder for the encoding type
+     */
+    private static SymbologyEncoder builtIn(EncodingType type) {
+        switch (type) {
+            case UCC12:
+            case UPCA:
+                return UPCA::new;
+            case Industrial2of5_Mod10:
+            case Industrial2of5:
+            case Standard2of5_Mod10:
+            case Standard2of5:
+                return data -> new Standard2of5(data, type);
+            case IATA2of5:
+                return IATA2of5::new;
+            case Interleaved2of5_Mod10:
+            case Interleaved2of5:
+                return data -> new Interleaved2of5(data, type);
+            case UCC13:
+            case EAN13:
+                return EAN13::new;
+            case LOGMARS:
+            case CODE39:
+                return Code39::new;
+            case CODE39Extended:
+                return data -> new Code39(data, true);
+            case CODE39_Mod43:
+                return data -> new Code39(data, false, true);
+            case Codabar:
+                return Codabar::new;
+            case ISBN:
+            case BOOKLAND:
+                return ISBN::new;
+            case JAN13:
+                return JAN13::new;
+            case MSI_Mod10:
+            case MSI_2Mod10:
+            case MSI_Mod11:
+            case MSI_Mod11_Mod10:
+            case Modified_Plessey:
+                return data -> new MSI(data, type);
+            case UPC_SUPPLEMENTAL_2DIGIT:
+                return UPCSupplement2::new;
+            case UPC_SUPPLEMENTAL_5DIGIT:
+                return UPCSupplement5::new;
+            case UPCE:
+                return UPCE::new;
+            case PostNet:
+                return Postnet::new;
+            case EAN8:
+                return EAN8::new;
+            case USD8:
+            case CODE11:
+                return Code11::new;
+            case CODE128:
+                return Code128::new;
+            case CODE128A:
+                return data -> new Code128(data, Code128.TYPES.A);
+            case CODE128B:
+                return data -> new Code128(data, Code128.TYPES.B);
+            case CODE128C:
+                return data -> new Code128(data, Code128.TYPES.C);
+            case CODE93:
+                return Code93::new;
+            case FIM:
+                return FIM::new;
+            case ITF14:
+                return ITF14::new;
+            case TELEPEN:
+                return Telepen::new;
+            case PHARMACODE:
+                return Pharmacode::new;
+
+            default:
+                throw new IllegalArgumentException("EENCODE-2: Unsupported encoding type specified.");
+        }
+    }
+}
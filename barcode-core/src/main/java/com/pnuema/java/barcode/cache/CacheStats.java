@@ -0,0 +1,78 @@
+package com.pnuema.java.barcode.cache;
+
+/**
+ * Point in time snapshot of the statistics of a cache.
+ */
+@SuppressWarnings("unused")
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    /**
+     * Constructor.
+     *
+     * @param hitCount      Number of lookups that found an entry
+     * @param missCount     Number of lookups that did not find an entry
+     * @param evictionCount Number of entries removed to stay within the cache bounds
+     * @param size          Number of entries currently held
+     */
+    public CacheStats(long hitCount, long missCount, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of lookups that found an entry
+     *
+     * @return Hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of lookups that did not find an entry
+     *
+     * @return Miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the number of entries removed to stay within the cache bounds
+     *
+     * @return Eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gets the number of entries currently held
+     *
+     * @return Size
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the ratio of lookups that found an entry. (1.0 when there have been no lookups)
+     *
+     * @return Hit rate between 0.0 and 1.0
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + ", size=" + size + '}';
+    }
+}
@@ -0,0 +1,501 @@
+package com.pnuema.java.barcode.cache;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Persistent cache of serialized barcode images bounded by the total number of bytes held on disk.
+ * Every image is stored in its own file named after the SHA-256 hash of its canonical render key, so the cache
+ * survives restarts of the process. Files are written to a temporary file, forced to disk and atomically moved
+ * into place, so a crash never leaves a partially written image behind.
+ * The least recently used order and the size of every image are kept in an append only journal that is replayed
+ * on startup, which avoids listing or reading the image files themselves. The journal is compacted once it holds
+ * many more records than there are images, and ends with a clean record once closed. When it does not (the process
+ * crashed or a write failed), the directory is swept on startup: leftover temporary files and images missing from
+ * the journal are deleted, so the cache stays within its maximum bytes.
+ * Caching is best effort: an image that can not be written (for example on a full disk) is counted as a write
+ * failure and simply not cached.
+ * A single instance can be shared by any number of {@link com.pnuema.java.barcode.Barcode} instances, but a
+ * directory must only be used by one instance at a time.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class DiskRenderCache implements Closeable {
+    private static final String JOURNAL = "journal";
+    private static final String JOURNAL_TMP = "journal.tmp";
+    private static final String PUT = "P";
+    private static final String READ = "R";
+    private static final String DELETE = "D";
+    private static final String CLEAN = "C";
+    private static final String OPEN = "O";
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final int COMPACT_THRESHOLD = 2000;
+
+    private final Path directory;
+    private final long maximumBytes;
+    private final LinkedHashMap<String, CachedFile> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder writeFailureCount = new LongAdder();
+    private FileChannel journalChannel;
+    private BufferedWriter journal;
+    private int journalRecords;
+    private long currentBytes;
+    private boolean cleanJournal;
+    private boolean closed;
+    //set once a file or journal record may be out of step with the journal, so close leaves the journal unclean and the next start sweeps the directory
+    private boolean dirty;
+
+    /**
+     * Constructor. Opens the cache in the directory, creating it if it does not exist.
+     *
+     * @param directory    Directory holding the cached images and the journal
+     * @param maximumBytes Maximum number of image bytes to keep on disk
+     * @throws IOException throws this if the directory or journal can not be read or created
+     */
+    public DiskRenderCache(Path directory, long maximumBytes) throws IOException {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("EDISKRENDERCACHE-1: Maximum bytes must be greater than 0.");
+        }
+
+        this.directory = directory;
+        this.maximumBytes = maximumBytes;
+
+        Files.createDirectories(directory);
+        readJournal();
+        openJournal();
+
+        if (!cleanJournal) {
+            sweep();
+        }
+
+        //the maximum may have been lowered since the cache was last used
+        trimToSize();
+
+        //forced before any image is moved into place, so a crash of this instance never leaves the clean record last
+        journal.write(OPEN);
+        journal.write('\n');
+        journalRecords++;
+        journal.flush();
+        journalChannel.force(true);
+    }
+
+    /**
+     * Gets the directory holding the cached images
+     *
+     * @return Cache directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Gets the maximum number of image bytes kept on disk
+     *
+     * @return Maximum bytes
+     */
+    public long getMaximumBytes() {
+        return maximumBytes;
+    }
+
+    /**
+     * Gets the number of image bytes currently on disk
+     *
+     * @return Current bytes
+     */
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    /**
+     * Gets the number of images that could not be written to the cache, for example because the disk was full
+     *
+     * @return Write failure count
+     */
+    public long getWriteFailureCount() {
+        return writeFailureCount.sum();
+    }
+
+    /**
+     * Looks up a cached image.
+     *
+     * @param key Canonical render key
+     * @return Cached image bytes, or null if not present
+     */
+    public byte[] get(String key) {
+        String hash = hash(key);
+        CachedFile cached;
+
+        synchronized (this) {
+            cached = entries.get(hash);
+            if (cached == null) {
+                missCount.increment();
+                return null;
+            }
+            appendRecord(READ, hash, -1);
+            compactIfNeeded();
+        }
+
+        try {
+            byte[] data = Files.readAllBytes(fileFor(hash));
+            hitCount.increment();
+            return data;
+        } catch (IOException ex) {
+            //evicted concurrently or removed from outside the cache, unless the image has been cached again since
+            synchronized (this) {
+                if (entries.get(hash) == cached) {
+                    remove(hash);
+                }
+            }
+            missCount.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Adds an image to the cache, evicting the least recently used images until it fits.
+     * Images larger than the maximum bytes are not cached, nor are images that can not be written, which are counted
+     * in {@link #getWriteFailureCount()}. Does nothing once the cache is closed.
+     *
+     * @param key  Canonical render key
+     * @param data Serialized image bytes
+     */
+    public void put(String key, byte[] data) {
+        synchronized (this) {
+            if (closed || data.length > maximumBytes) {
+                return;
+            }
+        }
+
+        String hash = hash(key);
+        Path file = fileFor(hash);
+        Path tmp = null;
+
+        try {
+            Files.createDirectories(file.getParent());
+            tmp = Files.createTempFile(file.getParent(), hash, TMP_SUFFIX);
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            synchronized (this) {
+                if (closed) {
+                    //the journal already ends clean, an image moved now would never be swept
+                    return;
+                }
+
+                //a crash before the put record reaches the disk leaves the open record of this instance after any clean record, so the next start sweeps the image
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+                CachedFile previous = entries.put(hash, new CachedFile(data.length));
+                if (previous != null) {
+                    currentBytes -= previous.size;
+                }
+                currentBytes += data.length;
+                appendRecord(PUT, hash, data.length);
+                trimToSize();
+                flushJournal();
+                compactIfNeeded();
+            }
+        } catch (IOException ex) {
+            //best effort, the image is rendered again next time
+            writeFailureCount.increment();
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ex) {
+                    markDirty();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all images from the cache. Statistics are kept.
+     */
+    public synchronized void clear() {
+        for (String hash : entries.keySet().toArray(new String[0])) {
+            remove(hash);
+        }
+        compact();
+    }
+
+    /**
+     * Gets a snapshot of the hit, miss and eviction counters
+     *
+     * @return Cache statistics
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), entries.size());
+    }
+
+    /**
+     * Flushes and closes the journal, marking it clean and forcing it to disk unless a write failed. The cached images
+     * stay on disk for the next instance opened on the directory.
+     *
+     * @throws IOException throws this if the journal can not be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        if (journal != null) {
+            try {
+                if (!dirty) {
+                    journal.write(CLEAN);
+                    journal.write('\n');
+                }
+                journal.flush();
+                journalChannel.force(true);
+            } finally {
+                journal.close();
+                journal = null;
+                journalChannel = null;
+            }
+        }
+    }
+
+    private void readJournal() throws IOException {
+        Path path = directory.resolve(JOURNAL);
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                journalRecords++;
+                //only a clean record at the very end means the last instance closed without losing track of a file
+                cleanJournal = CLEAN.equals(line);
+                String[] parts = line.split(" ");
+                if (parts.length < 2) {
+                    //partially written record from a crash
+                    continue;
+                }
+
+                switch (parts[0]) {
+                    case PUT:
+                        if (parts.length == 3) {
+                            try {
+                                long size = Long.parseLong(parts[2]);
+                                CachedFile previous = entries.put(parts[1], new CachedFile(size));
+                                currentBytes += size - (previous == null ? 0 : previous.size);
+                            } catch (NumberFormatException ex) {
+                                //partially written record from a crash
+                            }
+                        }
+                        break;
+                    case READ:
+                        entries.get(parts[1]);
+                        break;
+                    case DELETE:
+                        CachedFile removed = entries.remove(parts[1]);
+                        if (removed != null) {
+                            currentBytes -= removed.size;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    private void openJournal() throws IOException {
+        journalChannel = FileChannel.open(directory.resolve(JOURNAL), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        journal = new BufferedWriter(Channels.newWriter(journalChannel, StandardCharsets.UTF_8.newEncoder(), -1));
+    }
+
+    /**
+     * Reconciles the directory with the replayed journal after the last instance did not close cleanly: deletes
+     * temporary files and images the journal does not know, and forgets images whose file is missing or was cut short.
+     */
+    private void sweep() throws IOException {
+        Files.deleteIfExists(directory.resolve(JOURNAL_TMP));
+
+        Set<String> found = new HashSet<>();
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path shard : shards) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(shard)) {
+                    for (Path file : files) {
+                        String name = file.getFileName().toString();
+                        CachedFile cached = entries.get(name);
+                        if (cached != null && !name.endsWith(TMP_SUFFIX) && shard.equals(fileFor(name).getParent()) && Files.size(file) == cached.size) {
+                            found.add(name);
+                        } else {
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                }
+            }
+        }
+
+        //looked up through the key set, the sweep does not change the least recently used order
+        for (String hash : entries.keySet().toArray(new String[0])) {
+            if (!found.contains(hash)) {
+                remove(hash);
+            }
+        }
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<String, CachedFile>> iterator = entries.entrySet().iterator();
+        while (currentBytes > maximumBytes && iterator.hasNext()) {
+            Map.Entry<String, CachedFile> eldest = iterator.next();
+            currentBytes -= eldest.getValue().size;
+            iterator.remove();
+            deleteFile(eldest.getKey());
+            appendRecord(DELETE, eldest.getKey(), -1);
+            evictionCount.increment();
+        }
+    }
+
+    private void remove(String hash) {
+        CachedFile cached = entries.remove(hash);
+        if (cached != null) {
+            currentBytes -= cached.size;
+            deleteFile(hash);
+            appendRecord(DELETE, hash, -1);
+        }
+    }
+
+    private void deleteFile(String hash) {
+        try {
+            Files.deleteIfExists(fileFor(hash));
+        } catch (IOException ex) {
+            //left behind, deleted by the sweep of the next start
+            markDirty();
+        }
+    }
+
+    private void appendRecord(String type, String hash, long size) {
+        if (journal == null) {
+            //replaying the journal or closed
+            return;
+        }
+
+        try {
+            journal.write(type);
+            journal.write(' ');
+            journal.write(hash);
+            if (size >= 0) {
+                journal.write(' ');
+                journal.write(Long.toString(size));
+            }
+            journal.write('\n');
+            journalRecords++;
+        } catch (IOException ex) {
+            //the sweep of the next start reconciles the files the journal lost track of
+            markDirty();
+        }
+    }
+
+    private void flushJournal() {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.flush();
+        } catch (IOException ex) {
+            markDirty();
+        }
+    }
+
+    private synchronized void markDirty() {
+        dirty = true;
+    }
+
+    private void compactIfNeeded() {
+        if (journalRecords > COMPACT_THRESHOLD && journalRecords > entries.size() * 2) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the journal with one record per image in least recently used order.
+     */
+    private void compact() {
+        if (journal == null) {
+            //closed
+            return;
+        }
+
+        try {
+            journal.close();
+            journal = null;
+
+            Path tmp = directory.resolve(JOURNAL_TMP);
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1))) {
+                for (Map.Entry<String, CachedFile> entry : entries.entrySet()) {
+                    writer.write(PUT + ' ' + entry.getKey() + ' ' + entry.getValue().size + '\n');
+                }
+                writer.flush();
+                channel.force(true);
+            }
+            Files.move(tmp, directory.resolve(JOURNAL), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            journalRecords = entries.size();
+        } catch (IOException ex) {
+            //the old journal (or the rewritten one, if moved) is still replayed, the next start sweeps the rest
+            dirty = true;
+        }
+
+        try {
+            openJournal();
+        } catch (IOException ex) {
+            //entries are no longer journaled, the next start sweeps the directory
+            dirty = true;
+        }
+    }
+
+    private Path fileFor(String hash) {
+        return directory.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = Character.forDigit((digest[i] >> 4) & 0xF, 16);
+                hex[i * 2 + 1] = Character.forDigit(digest[i] & 0xF, 16);
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("EDISKRENDERCACHE-4: SHA-256 not available. " + ex.getMessage());
+        }
+    }
+
+    //the identity of an entry tells a read apart from a put of the same image that replaced it in the meantime
+    private static final class CachedFile {
+        private final long size;
+
+        private CachedFile(long size) {
+            this.size = size;
+        }
+    }
+}
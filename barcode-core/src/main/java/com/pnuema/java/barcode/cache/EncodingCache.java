@@ -0,0 +1,223 @@
+package com.pnuema.java.barcode.cache;
+
+import com.pnuema.java.barcode.EncodingType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, thread safe cache of encoded values keyed by encoding type and raw data. Symbology options
+ * (Code 128 subset, checksum variants ... etc.) are part of the encoding type so they are part of the key.
+ * The cache is split into independently locked segments that each evict their least recently used entry
+ * once full, so concurrent lookups of different values rarely contend.
+ * A single instance can be shared by any number of {@link com.pnuema.java.barcode.Barcode} instances.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class EncodingCache {
+    /**
+     * Encoded value and derived raw data of a cached encoding.
+     */
+    public static final class Entry {
+        private final String rawData;
+        private final String encodedValue;
+
+        Entry(String rawData, String encodedValue) {
+            this.rawData = rawData;
+            this.encodedValue = encodedValue;
+        }
+
+        /**
+         * Gets the raw data as produced by the symbology (including any check digit it added)
+         *
+         * @return Raw data
+         */
+        public String getRawData() {
+            return rawData;
+        }
+
+        /**
+         * Gets the encoded value representing bars and spaces
+         *
+         * @return Encoded value
+         */
+        public String getEncodedValue() {
+            return encodedValue;
+        }
+    }
+
+    private static final class Key {
+        private final EncodingType type;
+        private final String data;
+        private final int hash;
+
+        Key(EncodingType type, String data) {
+            this.type = type;
+            this.data = data;
+            this.hash = 31 * type.hashCode() + data.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return type == key.type && data.equals(key.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final class Segment extends LinkedHashMap<Key, EncodingCache.Entry> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, EncodingCache.Entry> eldest) {
+            if (size() > capacity) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private final Segment[] segments;
+    private final int maximumSize;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize Maximum number of encodings to keep
+     */
+    public EncodingCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("EENCODINGCACHE-1: Maximum size must be greater than 0.");
+        }
+
+        this.maximumSize = maximumSize;
+
+        //power of two number of segments, never more segments than entries
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, maximumSize)));
+        segments = new Segment[segmentCount];
+        int capacity = (maximumSize + segmentCount - 1) / segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    /**
+     * Gets the maximum number of encodings kept
+     *
+     * @return Maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Looks up a cached encoding.
+     *
+     * @param type Type of encoding
+     * @param data Raw data as passed to the symbology
+     * @return Cached encoding, or null if not present
+     */
+    public Entry get(EncodingType type, String data) {
+        Key key = new Key(type, data);
+        Segment segment = segmentFor(key);
+        Entry entry;
+
+        segment.lock.lock();
+        try {
+            entry = segment.get(key);
+        } finally {
+            segment.lock.unlock();
+        }
+
+        if (entry == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Adds an encoding to the cache, evicting the least recently used encoding of its segment if necessary.
+     *
+     * @param type         Type of encoding
+     * @param data         Raw data as passed to the symbology
+     * @param rawData      Raw data as produced by the symbology
+     * @param encodedValue Encoded value
+     */
+    public void put(EncodingType type, String data, String rawData, String encodedValue) {
+        Key key = new Key(type, data);
+        Segment segment = segmentFor(key);
+
+        segment.lock.lock();
+        try {
+            segment.put(key, new Entry(rawData, encodedValue));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all encodings from the cache. Statistics are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of encodings currently held
+     *
+     * @return Size
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Gets a snapshot of the hit, miss and eviction counters
+     *
+     * @return Cache statistics
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size());
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (segments.length - 1)];
+    }
+}
@@ -0,0 +1,183 @@
+package com.pnuema.java.barcode.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread safe cache of serialized barcode images (PNG, JPG ... etc. bytes) bounded by the total number of bytes held.
+ * Keys are the canonical description of every parameter that affects the output, as built by
+ * {@link com.pnuema.java.barcode.Barcode}, so repeated requests for the same image are served without
+ * encoding, rasterizing or compressing it again. The least recently used images are evicted first.
+ * A single instance can be shared by any number of {@link com.pnuema.java.barcode.Barcode} instances.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class RenderCache {
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long maximumBytes;
+    private long currentBytes;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param maximumBytes Maximum number of image bytes to keep
+     */
+    public RenderCache(long maximumBytes) {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("ERENDERCACHE-1: Maximum bytes must be greater than 0.");
+        }
+
+        this.maximumBytes = maximumBytes;
+    }
+
+    /**
+     * Gets the maximum number of image bytes kept
+     *
+     * @return Maximum bytes
+     */
+    public long getMaximumBytes() {
+        return maximumBytes;
+    }
+
+    /**
+     * Gets the number of image bytes currently held
+     *
+     * @return Current bytes
+     */
+    public long getCurrentBytes() {
+        lock.lock();
+        try {
+            return currentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Looks up a cached image.
+     *
+     * @param key Canonical render key
+     * @return Copy of the cached image bytes, or null if not present
+     */
+    public byte[] get(String key) {
+        byte[] data = lookup(key);
+        return data == null ? null : data.clone();
+    }
+
+    /**
+     * Looks up a cached image without copying it.
+     *
+     * @param key Canonical render key
+     * @return Read only view of the cached image bytes, or null if not present
+     */
+    public ByteBuffer getBuffer(String key) {
+        byte[] data = lookup(key);
+        return data == null ? null : ByteBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
+    /**
+     * Writes a cached image to a stream without copying it.
+     *
+     * @param key    Canonical render key
+     * @param stream Stream to write the image bytes to
+     * @return True if the image was found and written, false if not present
+     * @throws IOException throws this if writing to the stream causes an Exception
+     */
+    public boolean writeTo(String key, OutputStream stream) throws IOException {
+        byte[] data = lookup(key);
+        if (data == null) {
+            return false;
+        }
+
+        stream.write(data);
+        return true;
+    }
+
+    /**
+     * Adds an image to the cache, evicting the least recently used images until it fits.
+     * Images larger than the maximum bytes are not cached. The cache takes ownership of the array,
+     * it must not be modified afterwards.
+     *
+     * @param key  Canonical render key
+     * @param data Serialized image bytes
+     */
+    public void put(String key, byte[] data) {
+        if (data.length > maximumBytes) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            byte[] previous = entries.put(key, data);
+            if (previous != null) {
+                currentBytes -= previous.length;
+            }
+            currentBytes += data.length;
+
+            Iterator<Map.Entry<String, byte[]>> iterator = entries.entrySet().iterator();
+            while (currentBytes > maximumBytes && iterator.hasNext()) {
+                Map.Entry<String, byte[]> eldest = iterator.next();
+                currentBytes -= eldest.getValue().length;
+                iterator.remove();
+                evictionCount.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all images from the cache. Statistics are kept.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            currentBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets a snapshot of the hit, miss and eviction counters
+     *
+     * @return Cache statistics
+     */
+    public CacheStats getStats() {
+        long size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+    }
+
+    private byte[] lookup(String key) {
+        byte[] data;
+        lock.lock();
+        try {
+            data = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+
+        if (data == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return data;
+    }
+}
@@ -0,0 +1,69 @@
+package com.pnuema.java.barcode.font;
+
+/**
+ * Antialiased raster of one glyph: how much of each pixel the glyph covers, from 0 (none) to 255 (all). The tile is
+ * placed relative to the glyph origin on the baseline, with y growing downwards like image rows.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class GlyphCoverage {
+    private final int left;
+    private final int top;
+    private final int width;
+    private final int height;
+    private final byte[] coverage;
+
+    GlyphCoverage(int left, int top, int width, int height, byte[] coverage) {
+        this.left = left;
+        this.top = top;
+        this.width = width;
+        this.height = height;
+        this.coverage = coverage;
+    }
+
+    /**
+     * Gets the horizontal offset of the first column from the glyph origin.
+     *
+     * @return Pixels right of the origin, negative if left of it
+     */
+    public int getLeft() {
+        return left;
+    }
+
+    /**
+     * Gets the vertical offset of the first row from the baseline.
+     *
+     * @return Pixels below the baseline, negative if above it
+     */
+    public int getTop() {
+        return top;
+    }
+
+    /**
+     * Gets the width of the tile, 0 for glyphs without ink.
+     *
+     * @return Width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the tile, 0 for glyphs without ink.
+     *
+     * @return Height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the coverage of a pixel of the tile.
+     *
+     * @param x Column of the tile
+     * @param y Row of the tile
+     * @return Coverage from 0 to 255
+     */
+    public int getCoverage(int x, int y) {
+        return coverage[y * width + x] & 0xff;
+    }
+}
@@ -0,0 +1,368 @@
+package com.pnuema.java.barcode.font;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Monospaced OCR-B style font of the printable ASCII characters, built into the library so human-readable labels can be
+ * drawn without system fonts or the AWT font stack, and look the same on every host.
+ * Like OCR-B itself every glyph is a set of center lines drawn with one round stroke width. The glyphs are available
+ * as those center lines, to be stroked by any 2D library, or rasterized into antialiased coverage by the rasterizer of
+ * this class.
+ * Sizes are in pixels per em, the same number as the point size of a font drawn at 72 dpi.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class OcrB {
+    /**
+     * First character with a glyph
+     */
+    public static final char FIRST = ' ';
+    /**
+     * Last character with a glyph
+     */
+    public static final char LAST = '~';
+
+    //design units: the em is 20 units, capitals are 14 units high, the x-height is 10, every glyph is 12 units wide
+    private static final float UNITS_PER_EM = 20f;
+    private static final float ADVANCE = 12f;
+    private static final float ASCENT = 16f;
+    private static final float DESCENT = 4f;
+    private static final float STROKE_WIDTH = 2f;
+
+    //subsamples per pixel along each axis when rasterizing
+    private static final int SAMPLES = 4;
+    //line segments each quadratic curve is flattened into
+    private static final int CURVE_SEGMENTS = 8;
+
+    //center lines of the glyphs from FIRST to LAST: strokes separated by |, points as x,y with y up from the baseline,
+    //a point prefixed with q is the control point of a quadratic curve to the point after it
+    private static final String[] GLYPHS = {
+            /*   */ "",
+            /* ! */ "6,14 6,4|6,0.8 6,1.2",
+            /* " */ "4.5,14 4.5,10.5|7.5,14 7.5,10.5",
+            /* # */ "4.5,1 5.5,13|7.5,1 8.5,13|2,4.5 10,4.5|2,9.5 10,9.5",
+            /* $ */ "9.5,12.5 q8.5,14 6,14 q2.5,14 2.5,10.75 q2.5,8 6,7 q10,6 10,3.5 q10,0 6,0 q3,0 2,1.8|6,15.5 6,-1.5",
+            /* % */ "10,14 2,0|3.5,14 q5,14 5,12 q5,10 3.5,10 q2,10 2,12 q2,14 3.5,14|8.5,4 q10,4 10,2 q10,0 8.5,0 q7,0 7,2 q7,4 8.5,4",
+            /* & */ "10,0 3.5,9.5 q2.8,10.5 2.8,11.5 q2.8,14 5.3,14 q7.8,14 7.8,11.5 q7.8,9.5 4.5,7.5 q2,6 2,3.5 q2,0 5.5,0 q8.5,0 10,4",
+            /* ' */ "6,14 6,10.5",
+            /* ( */ "8,15 q4,11 4,5.5 q4,0 8,-4",
+            /* ) */ "4,15 q8,11 8,5.5 q8,0 4,-4",
+            /* * */ "6,13 6,5|2.5,11 9.5,7|2.5,7 9.5,11",
+            /* + */ "6,11 6,3|2,7 10,7",
+            /* , */ "6.5,1.5 4.5,-3",
+            /* - */ "2.5,7 9.5,7",
+            /* . */ "6,0.8 6,1.2",
+            /* / */ "10,14 2,0",
+            /* 0 */ "6,14 q10,14 10,9 10,5 q10,0 6,0 q2,0 2,5 2,9 q2,14 6,14",
+            /* 1 */ "3.5,11 7,14 7,0",
+            /* 2 */ "2.5,11.5 q3,14 6,14 q10,14 10,10.5 q10,8 7.5,6 2,0 10,0",
+            /* 3 */ "2.5,14 9.5,14 5.5,8.5 q10,8.5 10,4.25 q10,0 6,0 q3,0 2,2",
+            /* 4 */ "8,0 8,14 2,4 10.5,4",
+            /* 5 */ "9.5,14 3,14 2.5,7.8 q4,8.8 6,8.8 q10,8.8 10,4.4 q10,0 6,0 q3,0 2,2",
+            /* 6 */ "8.5,14 2.6,5.8|6,8.5 q10,8.5 10,4.25 q10,0 6,0 q2,0 2,4.25 q2,8.5 6,8.5",
+            /* 7 */ "2,14 10,14 4.5,0",
+            /* 8 */ "6,14 q9.5,14 9.5,11 q9.5,8 6,8 q2.5,8 2.5,11 q2.5,14 6,14|6,8 q10,8 10,4 q10,0 6,0 q2,0 2,4 q2,8 6,8",
+            /* 9 */ "3.5,0 9.4,8.2|6,14 q10,14 10,9.75 q10,5.5 6,5.5 q2,5.5 2,9.75 q2,14 6,14",
+            /* : */ "6,9.8 6,10.2|6,0.8 6,1.2",
+            /* ; */ "6,9.8 6,10.2|6.5,1.5 4.5,-3",
+            /* < */ "10,12 2,7 10,2",
+            /* = */ "2,9.5 10,9.5|2,4.5 10,4.5",
+            /* > */ "2,12 10,7 2,2",
+            /* ? */ "2.5,12 q3.5,14 6,14 q10,14 10,10.5 q10,8 6,6.5 6,4|6,0.8 6,1.2",
+            /* @ */ "8.5,5.5 q8.5,9 6,9 q3.5,9 3.5,6 q3.5,3 6,3 q8.5,3 8.5,5.5 8.5,3.5 q8.5,2 10,3 q11,5 11,7 q11,13.5 6,13.5 q1,13.5 1,7 q1,0 6,0 q8,0 9.5,1",
+            /* A */ "2,0 6,14 10,0|3.3,4.5 8.7,4.5",
+            /* B */ "2,0 2,14 6.5,14 q9.5,14 9.5,10.75 q9.5,7.5 6.5,7.5 2,7.5|6.5,7.5 q10,7.5 10,3.75 q10,0 6.5,0 2,0",
+            /* C */ "10,12 q9,14 6,14 q2,14 2,9 2,5 q2,0 6,0 q9,0 10,2",
+            /* D */ "2,0 2,14 5.5,14 q10,14 10,9 10,5 q10,0 5.5,0 2,0",
+            /* E */ "10,14 2,14 2,0 10,0|2,7.5 8,7.5",
+            /* F */ "10,14 2,14 2,0|2,7.5 8,7.5",
+            /* G */ "10,12 q9,14 6,14 q2,14 2,9 2,5 q2,0 6,0 q10,0 10,4 10,6.5 6.5,6.5",
+            /* H */ "2,0 2,14|10,0 10,14|2,7.5 10,7.5",
+            /* I */ "6,0 6,14|3,14 9,14|3,0 9,0",
+            /* J */ "5,14 10,14 10,4 q10,0 6,0 q2.5,0 2,3",
+            /* K */ "2,0 2,14|10,14 2,5|4.8,8 10,0",
+            /* L */ "2,14 2,0 10,0",
+            /* M */ "2,0 2,14 6,5 10,14 10,0",
+            /* N */ "2,0 2,14 10,0 10,14",
+            /* O */ "6,14 q10,14 10,9 10,5 q10,0 6,0 q2,0 2,5 2,9 q2,14 6,14",
+            /* P */ "2,0 2,14 6.5,14 q10,14 10,10.5 q10,7 6.5,7 2,7",
+            /* Q */ "6,14 q10,14 10,9 10,5 q10,0 6,0 q2,0 2,5 2,9 q2,14 6,14|7,3.5 10.5,-1",
+            /* R */ "2,0 2,14 6.5,14 q10,14 10,10.5 q10,7 6.5,7 2,7|6,7 10,0",
+            /* S */ "9.5,12.5 q8.5,14 6,14 q2.5,14 2.5,10.75 q2.5,8 6,7 q10,6 10,3.5 q10,0 6,0 q3,0 2,1.8",
+            /* T */ "2,14 10,14|6,14 6,0",
+            /* U */ "2,14 2,5 q2,0 6,0 q10,0 10,5 10,14",
+            /* V */ "2,14 6,0 10,14",
+            /* W */ "1.5,14 3.75,0 6,9 8.25,0 10.5,14",
+            /* X */ "2,14 10,0|10,14 2,0",
+            /* Y */ "2,14 6,7 10,14|6,7 6,0",
+            /* Z */ "2,14 10,14 2,0 10,0",
+            /* [ */ "8,15 4,15 4,-4 8,-4",
+            /* \ */ "2,14 10,0",
+            /* ] */ "4,15 8,15 8,-4 4,-4",
+            /* ^ */ "2.5,9 6,14 9.5,9",
+            /* _ */ "1,-3 11,-3",
+            /* ` */ "4.5,14 7,11.5",
+            /* a */ "3,9 q4,10 6,10 q9.5,10 9.5,7 9.5,0|9.5,5.5 6,5.5 q2.5,5.5 2.5,2.75 q2.5,0 5.5,0 q8,0 9.5,2",
+            /* b */ "2,14 2,0|2,5 q2,10 6,10 q10,10 10,5 q10,0 6,0 q2,0 2,5",
+            /* c */ "9.5,8.5 q8.5,10 6,10 q2,10 2,5 q2,0 6,0 q8.5,0 9.5,1.5",
+            /* d */ "10,14 10,0|10,5 q10,10 6,10 q2,10 2,5 q2,0 6,0 q10,0 10,5",
+            /* e */ "2,5 10,5 q10,10 6,10 q2,10 2,5 q2,0 6,0 q8.5,0 9.5,1.5",
+            /* f */ "9.5,13.5 q9,14 8,14 q5,14 5,11 5,0|2.5,10 9,10",
+            /* g */ "10,10 10,-1 q10,-4 6,-4 q3.5,-4 2.5,-2.5|10,5 q10,10 6,10 q2,10 2,5 q2,0 6,0 q10,0 10,5",
+            /* h */ "2,14 2,0|2,6.5 q3,10 6,10 q10,10 10,6 10,0",
+            /* i */ "3.5,10 6,10 6,0|6,13.2 6,13.6",
+            /* j */ "3.5,10 7,10 7,-1 q7,-4 4,-4 2.5,-4|7,13.2 7,13.6",
+            /* k */ "2,14 2,0|9,10 2,3.5|4.5,5.8 10,0",
+            /* l */ "3.5,14 6,14 6,2 q6,0 8,0 9.5,0",
+            /* m */ "1.5,0 1.5,10|1.5,7 q2,10 4,10 q6,10 6,7 6,0|6,7 q6.5,10 8.5,10 q10.5,10 10.5,7 10.5,0",
+            /* n */ "2,0 2,10|2,6.5 q3,10 6,10 q10,10 10,6 10,0",
+            /* o */ "6,10 q10,10 10,5 q10,0 6,0 q2,0 2,5 q2,10 6,10",
+            /* p */ "2,10 2,-4|2,5 q2,10 6,10 q10,10 10,5 q10,0 6,0 q2,0 2,5",
+            /* q */ "10,10 10,-4|10,5 q10,10 6,10 q2,10 2,5 q2,0 6,0 q10,0 10,5",
+            /* r */ "2.5,10 2.5,0|2.5,6 q3.5,10 7,10 q8.5,10 9.5,9",
+            /* s */ "9.5,8.8 q8.5,10 6,10 q2.5,10 2.5,7.5 q2.5,5.5 6,5 q9.8,4.5 9.8,2.5 q9.8,0 6,0 q3.2,0 2.2,1.3",
+            /* t */ "5,13 5,2.5 q5,0 7.5,0 9.5,0.5|2.5,10 9,10",
+            /* u */ "2,10 2,4 q2,0 6,0 q10,0 10,4|10,10 10,0",
+            /* v */ "2,10 6,0 10,10",
+            /* w */ "1.5,10 3.75,0 6,7 8.25,0 10.5,10",
+            /* x */ "2,10 10,0|10,10 2,0",
+            /* y */ "2,10 6,0|10,10 5,-2.5 q4,-4 2.5,-4",
+            /* z */ "2,10 10,10 2,0 10,0",
+            /* { */ "8.5,15 q6,15 6,12 6,8.5 q6,5.5 3.5,5.5 q6,5.5 6,2.5 6,-1 q6,-4 8.5,-4",
+            /* | */ "6,15 6,-4",
+            /* } */ "3.5,15 q6,15 6,12 6,8.5 q6,5.5 8.5,5.5 q6,5.5 6,2.5 6,-1 q6,-4 3.5,-4",
+            /* ~ */ "2,6.5 q3.5,9 6,7 q8.5,5 10,7.5",
+    };
+
+    private OcrB() {
+    }
+
+    /**
+     * Gets whether the font has a glyph for a character
+     *
+     * @param c Character to draw
+     * @return True for the printable ASCII characters
+     */
+    public static boolean canDisplay(char c) {
+        return c >= FIRST && c <= LAST;
+    }
+
+    /**
+     * Gets whether the font has a glyph for every character of a text
+     *
+     * @param text Text to draw
+     * @return True if the text only has printable ASCII characters
+     */
+    public static boolean canDisplay(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!canDisplay(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the distance from one glyph origin to the next, the same for every character
+     *
+     * @param size Size in pixels per em
+     * @return Advance in whole pixels
+     */
+    public static int getAdvance(int size) {
+        return Math.max(1, Math.round(size * ADVANCE / UNITS_PER_EM));
+    }
+
+    /**
+     * Gets the width of a text
+     *
+     * @param text Text to measure
+     * @param size Size in pixels per em
+     * @return Width in whole pixels
+     */
+    public static int stringWidth(String text, int size) {
+        return text.length() * getAdvance(size);
+    }
+
+    /**
+     * Gets the distance from the baseline to the top of the tallest glyphs
+     *
+     * @param size Size in pixels per em
+     * @return Ascent in whole pixels
+     */
+    public static int getAscent(int size) {
+        return Math.round(size * ASCENT / UNITS_PER_EM);
+    }
+
+    /**
+     * Gets the distance from the baseline to the bottom of the descenders
+     *
+     * @param size Size in pixels per em
+     * @return Descent in whole pixels
+     */
+    public static int getDescent(int size) {
+        return Math.round(size * DESCENT / UNITS_PER_EM);
+    }
+
+    /**
+     * Gets the height of a line of text
+     *
+     * @param size Size in pixels per em
+     * @return Ascent plus descent in whole pixels
+     */
+    public static int getHeight(int size) {
+        return getAscent(size) + getDescent(size);
+    }
+
+    /**
+     * Gets the width of the strokes of the glyphs, never thinner than a pixel
+     *
+     * @param size Size in pixels per em
+     * @return Stroke width in pixels
+     */
+    public static float getStrokeWidth(float size) {
+        return Math.max(1f, size * STROKE_WIDTH / UNITS_PER_EM);
+    }
+
+    /**
+     * Gets the center lines of a glyph as polylines. Stroking every polyline with round caps and joins at
+     * {@link #getStrokeWidth(float)} draws the glyph.
+     *
+     * @param c    Character to get the glyph of
+     * @param size Size in pixels per em
+     * @return Polylines as x, y pairs in pixels relative to the glyph origin on the baseline, y growing downwards.
+     * Empty for the space and for characters the font can not display
+     */
+    public static List<float[]> getOutline(char c, float size) {
+        if (!canDisplay(c)) {
+            return Collections.emptyList();
+        }
+
+        float scale = size / UNITS_PER_EM;
+        List<float[]> polylines = new ArrayList<>();
+        for (String stroke : GLYPHS[c - FIRST].split("\\|")) {
+            if (stroke.isEmpty()) {
+                continue;
+            }
+
+            String[] points = stroke.split(" ");
+            float[] polyline = new float[points.length * 2 * CURVE_SEGMENTS];
+            int length = 0;
+            float x = 0;
+            float y = 0;
+            for (int i = 0; i < points.length; i++) {
+                if (points[i].charAt(0) == 'q') {
+                    float controlX = parseX(points[i].substring(1), scale);
+                    float controlY = parseY(points[i].substring(1), scale);
+                    float endX = parseX(points[++i], scale);
+                    float endY = parseY(points[i], scale);
+                    for (int s = 1; s <= CURVE_SEGMENTS; s++) {
+                        float t = (float) s / CURVE_SEGMENTS;
+                        float u = 1 - t;
+                        polyline[length++] = u * u * x + 2 * u * t * controlX + t * t * endX;
+                        polyline[length++] = u * u * y + 2 * u * t * controlY + t * t * endY;
+                    }
+                    x = endX;
+                    y = endY;
+                } else {
+                    x = parseX(points[i], scale);
+                    y = parseY(points[i], scale);
+                    polyline[length++] = x;
+                    polyline[length++] = y;
+                }
+            }
+
+            float[] trimmed = new float[length];
+            System.arraycopy(polyline, 0, trimmed, 0, length);
+            polylines.add(trimmed);
+        }
+        return polylines;
+    }
+
+    /**
+     * Rasterizes a glyph into antialiased coverage, sampling every pixel 4 x 4 times.
+     * The result only depends on the character and size, so it is the same on every host.
+     *
+     * @param c    Character to rasterize
+     * @param size Size in pixels per em
+     * @return Coverage of the glyph drawn at an origin on a pixel corner
+     */
+    public static GlyphCoverage rasterize(char c, int size) {
+        List<float[]> outline = getOutline(c, size);
+        if (outline.isEmpty()) {
+            return new GlyphCoverage(0, 0, 0, 0, new byte[0]);
+        }
+
+        float radius = getStrokeWidth(size) / 2;
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (float[] polyline : outline) {
+            for (int i = 0; i < polyline.length; i += 2) {
+                minX = Math.min(minX, polyline[i]);
+                maxX = Math.max(maxX, polyline[i]);
+                minY = Math.min(minY, polyline[i + 1]);
+                maxY = Math.max(maxY, polyline[i + 1]);
+            }
+        }
+
+        int left = (int) Math.floor(minX - radius);
+        int top = (int) Math.floor(minY - radius);
+        int width = (int) Math.ceil(maxX + radius) - left;
+        int height = (int) Math.ceil(maxY + radius) - top;
+        byte[] coverage = new byte[width * height];
+        float radiusSquared = radius * radius;
+
+        for (int py = 0; py < height; py++) {
+            for (int px = 0; px < width; px++) {
+                int inside = 0;
+                for (int sy = 0; sy < SAMPLES; sy++) {
+                    float y = top + py + (sy + 0.5f) / SAMPLES;
+                    for (int sx = 0; sx < SAMPLES; sx++) {
+                        float x = left + px + (sx + 0.5f) / SAMPLES;
+                        if (isInside(outline, x, y, radiusSquared)) {
+                            inside++;
+                        }
+                    }
+                }
+                coverage[py * width + px] = (byte) ((inside * 255 + SAMPLES * SAMPLES / 2) / (SAMPLES * SAMPLES));
+            }
+        }
+
+        return new GlyphCoverage(left, top, width, height, coverage);
+    }
+
+    //whether a point is within the stroke radius of any segment of the polylines
+    private static boolean isInside(List<float[]> outline, float x, float y, float radiusSquared) {
+        for (float[] polyline : outline) {
+            if (polyline.length == 2 && distanceSquared(x, y, polyline[0], polyline[1], polyline[0], polyline[1]) <= radiusSquared) {
+                return true;
+            }
+            for (int i = 2; i < polyline.length; i += 2) {
+                if (distanceSquared(x, y, polyline[i - 2], polyline[i - 1], polyline[i], polyline[i + 1]) <= radiusSquared) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static float distanceSquared(float x, float y, float x1, float y1, float x2, float y2) {
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        float lengthSquared = dx * dx + dy * dy;
+        float t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, ((x - x1) * dx + (y - y1) * dy) / lengthSquared));
+        float nearestX = x1 + t * dx - x;
+        float nearestY = y1 + t * dy - y;
+        return nearestX * nearestX + nearestY * nearestY;
+    }
+
+    private static float parseX(String point, float scale) {
+        return Float.parseFloat(point.substring(0, point.indexOf(','))) * scale;
+    }
+
+    private static float parseY(String point, float scale) {
+        return -Float.parseFloat(point.substring(point.indexOf(',') + 1)) * scale;
+    }
+}
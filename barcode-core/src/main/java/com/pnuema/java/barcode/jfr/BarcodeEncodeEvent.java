@@ -0,0 +1,30 @@
+package com.pnuema.java.barcode.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering the validation and encoding of the raw data into bars and spaces.
+ */
+@Name("com.pnuema.java.barcode.BarcodeEncode")
+@Label("Barcode Encode")
+@Category("Barcode")
+@Description("Validation and encoding of barcode data into bars and spaces")
+public final class BarcodeEncodeEvent extends jdk.jfr.Event {
+    @Label("Symbology")
+    public String symbology;
+
+    @Label("Payload Length")
+    @Description("Length of the raw data")
+    public int payloadLength;
+
+    @Label("Encoded Length")
+    @Description("Number of modules (bars and spaces) in the encoded value")
+    public int encodedLength;
+
+    @Label("Cached")
+    @Description("Encoded value was served from the encoding cache")
+    public boolean cached;
+}
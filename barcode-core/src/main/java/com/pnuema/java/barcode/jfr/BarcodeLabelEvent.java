@@ -0,0 +1,29 @@
+package com.pnuema.java.barcode.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering the drawing of the label onto a barcode image.
+ */
+@Name("com.pnuema.java.barcode.BarcodeLabel")
+@Label("Barcode Label")
+@Category("Barcode")
+@Description("Drawing of the label onto a barcode image")
+public final class BarcodeLabelEvent extends jdk.jfr.Event {
+    @Label("Symbology")
+    public String symbology;
+
+    @Label("Width")
+    @Description("Image width in pixels")
+    public int width;
+
+    @Label("Height")
+    @Description("Image height in pixels")
+    public int height;
+
+    @Label("Font Size")
+    public int fontSize;
+}
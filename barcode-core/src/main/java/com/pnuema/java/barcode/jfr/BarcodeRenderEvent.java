@@ -0,0 +1,29 @@
+package com.pnuema.java.barcode.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering the layout and drawing of a barcode image, including its label.
+ */
+@Name("com.pnuema.java.barcode.BarcodeRender")
+@Label("Barcode Render")
+@Category("Barcode")
+@Description("Layout and drawing of a barcode image, including its label")
+public final class BarcodeRenderEvent extends jdk.jfr.Event {
+    @Label("Symbology")
+    public String symbology;
+
+    @Label("Width")
+    @Description("Image width in pixels")
+    public int width;
+
+    @Label("Height")
+    @Description("Image height in pixels")
+    public int height;
+
+    @Label("Include Label")
+    public boolean includeLabel;
+}
@@ -0,0 +1,35 @@
+package com.pnuema.java.barcode.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event covering the compression of a barcode image into a file format.
+ */
+@Name("com.pnuema.java.barcode.BarcodeSerialize")
+@Label("Barcode Serialize")
+@Category("Barcode")
+@Description("Compression of a barcode image into a file format")
+public final class BarcodeSerializeEvent extends jdk.jfr.Event {
+    @Label("Symbology")
+    public String symbology;
+
+    @Label("Format")
+    public String format;
+
+    @Label("Width")
+    @Description("Image width in pixels")
+    public int width;
+
+    @Label("Height")
+    @Description("Image height in pixels")
+    public int height;
+
+    @Label("Bytes")
+    @Description("Size of the serialized image")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,28 @@
+package com.pnuema.java.barcode.metrics;
+
+import com.pnuema.java.barcode.EncodingType;
+
+/**
+ * Receives the timing of every barcode produced by a {@link com.pnuema.java.barcode.Barcode}.
+ * Listeners are called on the thread that encoded the barcode, so implementations must be thread safe and fast.
+ * Exceptions thrown by a listener are ignored and never fail the encode.
+ */
+@FunctionalInterface
+public interface BarcodeMetricsListener {
+    /**
+     * Called when an encode starts. Every call is followed by a call to {@link #onEncode(EncodeEvent)} on the same
+     * thread once the encode finishes or fails.
+     *
+     * @param encodingType Type of encoding, can be null if not specified
+     */
+    default void onEncodeStart(EncodingType encodingType) {
+    }
+
+    /**
+     * Called once per encode, after the image is drawn or, when the image is serialized, after serialization.
+     * Also called when the encode fails.
+     *
+     * @param event Encoding type, payload length, outcome and stage durations of the encode
+     */
+    void onEncode(EncodeEvent event);
+}
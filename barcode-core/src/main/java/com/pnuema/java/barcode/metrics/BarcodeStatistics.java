@@ -0,0 +1,286 @@
+package com.pnuema.java.barcode.metrics;
+
+import com.pnuema.java.barcode.EncodingType;
+import com.pnuema.java.barcode.cache.CacheStats;
+import com.pnuema.java.barcode.cache.DiskRenderCache;
+import com.pnuema.java.barcode.cache.EncodingCache;
+import com.pnuema.java.barcode.cache.RenderCache;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics listener aggregating request, error, byte and latency counters of all barcodes that report to it, and
+ * exposing them over JMX. Every counter is a {@link LongAdder} and every latency a {@link LatencyHistogram}, so
+ * concurrent encodes do not contend on the instrumentation.
+ * <pre>
+ * BarcodeStatistics statistics = BarcodeStatistics.register();
+ * Barcode.setDefaultMetricsListener(statistics);
+ * </pre>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class BarcodeStatistics implements BarcodeMetricsListener, BarcodeStatisticsMXBean {
+    /**
+     * Object name the statistics are registered under by {@link #register()}.
+     */
+    public static final String OBJECT_NAME = "com.pnuema.java.barcode:type=BarcodeStatistics";
+
+    private static final EncodingType[] TYPES = EncodingType.values();
+    private static final String UNKNOWN_ERROR = "UNKNOWN";
+
+    private final AtomicReferenceArray<TypeStatistics> types = new AtomicReferenceArray<>(TYPES.length);
+    private final ConcurrentHashMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> bytes = new ConcurrentHashMap<>();
+    private final LongAdder totalRequests = new LongAdder();
+    private final LongAdder totalErrors = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private volatile EncodingCache encodingCache;
+    private volatile RenderCache renderCache;
+    private volatile DiskRenderCache diskRenderCache;
+
+    private static final class TypeStatistics {
+        private final LongAdder requests = new LongAdder();
+        private final LatencyHistogram encode = new LatencyHistogram();
+        private final LatencyHistogram draw = new LatencyHistogram();
+    }
+
+    /**
+     * Creates statistics and registers them with the platform MBean server under {@link #OBJECT_NAME}.
+     *
+     * @return Registered statistics
+     * @throws IllegalStateException if the statistics can not be registered (ex. already registered)
+     */
+    public static BarcodeStatistics register() {
+        BarcodeStatistics statistics = new BarcodeStatistics();
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, new ObjectName(OBJECT_NAME));
+        } catch (JMException ex) {
+            throw new IllegalStateException("EBARCODESTATISTICS-1: Could not register MBean. " + ex.getMessage(), ex);
+        }
+        return statistics;
+    }
+
+    /**
+     * Removes the statistics registered under {@link #OBJECT_NAME} from the platform MBean server, if any.
+     */
+    public static void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException ex) {
+            throw new IllegalStateException("EBARCODESTATISTICS-2: Could not unregister MBean. " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Sets the encoding cache whose statistics are exposed
+     *
+     * @param encodingCache Encoding cache, null for none
+     */
+    public void setEncodingCache(EncodingCache encodingCache) {
+        this.encodingCache = encodingCache;
+    }
+
+    /**
+     * Sets the render cache whose statistics are exposed
+     *
+     * @param renderCache Render cache, null for none
+     */
+    public void setRenderCache(RenderCache renderCache) {
+        this.renderCache = renderCache;
+    }
+
+    /**
+     * Sets the disk render cache whose statistics are exposed
+     *
+     * @param diskRenderCache Disk render cache, null for none
+     */
+    public void setDiskRenderCache(DiskRenderCache diskRenderCache) {
+        this.diskRenderCache = diskRenderCache;
+    }
+
+    @Override
+    public void onEncodeStart(EncodingType encodingType) {
+        inFlight.increment();
+    }
+
+    @Override
+    public void onEncode(EncodeEvent event) {
+        inFlight.decrement();
+        totalRequests.increment();
+
+        TypeStatistics statistics = event.getEncodingType() == null ? null : statisticsFor(event.getEncodingType());
+        if (statistics != null) {
+            statistics.requests.increment();
+        }
+
+        if (event.getOutcome() == EncodeEvent.Outcome.FAILURE) {
+            totalErrors.increment();
+            String code = event.getErrorCode();
+            errors.computeIfAbsent(code == null ? UNKNOWN_ERROR : code, key -> new LongAdder()).increment();
+            return;
+        }
+
+        if (event.getFormat() != null && event.getSerializedBytes() >= 0) {
+            bytes.computeIfAbsent(event.getFormat(), key -> new LongAdder()).add(event.getSerializedBytes());
+        }
+
+        if (statistics != null) {
+            statistics.encode.record(event.getStageNanos(EncodeEvent.Stage.VALIDATE) + event.getStageNanos(EncodeEvent.Stage.ENCODE));
+            if (event.hasStage(EncodeEvent.Stage.LAYOUT)) {
+                statistics.draw.record(event.getStageNanos(EncodeEvent.Stage.LAYOUT) + event.getStageNanos(EncodeEvent.Stage.RASTERIZE) + event.getStageNanos(EncodeEvent.Stage.LABEL));
+            }
+        }
+    }
+
+    @Override
+    public long getTotalRequests() {
+        return totalRequests.sum();
+    }
+
+    @Override
+    public long getTotalErrors() {
+        return totalErrors.sum();
+    }
+
+    @Override
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public Map<String, Long> getRequestCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (EncodingType type : TYPES) {
+            TypeStatistics statistics = types.get(type.ordinal());
+            if (statistics != null) {
+                counts.put(type.name(), statistics.requests.sum());
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getErrorCounts() {
+        return sum(errors);
+    }
+
+    @Override
+    public Map<String, Long> getBytesByFormat() {
+        return sum(bytes);
+    }
+
+    @Override
+    public Map<String, Long> getEncodeLatencies() {
+        Map<String, Long> latencies = new TreeMap<>();
+        for (EncodingType type : TYPES) {
+            TypeStatistics statistics = types.get(type.ordinal());
+            if (statistics != null) {
+                putLatencies(latencies, type.name(), statistics.encode);
+            }
+        }
+        return latencies;
+    }
+
+    @Override
+    public Map<String, Long> getDrawLatencies() {
+        Map<String, Long> latencies = new TreeMap<>();
+        for (EncodingType type : TYPES) {
+            TypeStatistics statistics = types.get(type.ordinal());
+            if (statistics != null) {
+                putLatencies(latencies, type.name(), statistics.draw);
+            }
+        }
+        return latencies;
+    }
+
+    @Override
+    public Map<String, Long> getEncodingCacheStatistics() {
+        EncodingCache cache = encodingCache;
+        return toMap(cache == null ? null : cache.getStats());
+    }
+
+    @Override
+    public Map<String, Long> getRenderCacheStatistics() {
+        RenderCache cache = renderCache;
+        return toMap(cache == null ? null : cache.getStats());
+    }
+
+    @Override
+    public Map<String, Long> getDiskRenderCacheStatistics() {
+        DiskRenderCache cache = diskRenderCache;
+        return toMap(cache == null ? null : cache.getStats());
+    }
+
+    /**
+     * Resets all counters and latencies except the in flight count. Cache statistics are kept by the caches.
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < types.length(); i++) {
+            types.set(i, null);
+        }
+        errors.clear();
+        bytes.clear();
+        totalRequests.reset();
+        totalErrors.reset();
+    }
+
+    private TypeStatistics statisticsFor(EncodingType type) {
+        TypeStatistics created = null;
+        while (true) {
+            TypeStatistics existing = types.get(type.ordinal());
+            if (existing != null) {
+                return existing;
+            }
+
+            if (created == null) {
+                created = new TypeStatistics();
+            }
+            if (types.compareAndSet(type.ordinal(), null, created)) {
+                return created;
+            }
+        }
+    }
+
+    private static Map<String, Long> sum(Map<String, LongAdder> counters) {
+        Map<String, Long> sums = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> counter : counters.entrySet()) {
+            sums.put(counter.getKey(), counter.getValue().sum());
+        }
+        return sums;
+    }
+
+    private static void putLatencies(Map<String, Long> latencies, String prefix, LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+
+        latencies.put(prefix + ".mean", Math.round(histogram.getMean()));
+        latencies.put(prefix + ".p50", histogram.getP50());
+        latencies.put(prefix + ".p99", histogram.getP99());
+        latencies.put(prefix + ".p999", histogram.getP999());
+    }
+
+    private static Map<String, Long> toMap(CacheStats stats) {
+        Map<String, Long> map = new TreeMap<>();
+        if (stats != null) {
+            map.put("hitCount", stats.getHitCount());
+            map.put("missCount", stats.getMissCount());
+            map.put("evictionCount", stats.getEvictionCount());
+            map.put("size", stats.getSize());
+            map.put("hitRate", Math.round(stats.getHitRate() * 100));
+        }
+        return map;
+    }
+}
@@ -0,0 +1,92 @@
+package com.pnuema.java.barcode.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link BarcodeStatistics}, as shown in JConsole, VisualVM or any other JMX client.
+ * Latency maps are keyed by encoding type and statistic, (ex. CODE128.p99) with values in nanoseconds.
+ */
+@SuppressWarnings("unused")
+public interface BarcodeStatisticsMXBean {
+    /**
+     * Gets the number of encodes started
+     *
+     * @return Total requests
+     */
+    long getTotalRequests();
+
+    /**
+     * Gets the number of encodes that failed
+     *
+     * @return Total errors
+     */
+    long getTotalErrors();
+
+    /**
+     * Gets the number of encodes currently running
+     *
+     * @return In flight calls
+     */
+    long getInFlight();
+
+    /**
+     * Gets the number of encodes per encoding type
+     *
+     * @return Requests by encoding type
+     */
+    Map<String, Long> getRequestCounts();
+
+    /**
+     * Gets the number of failed encodes per error code (ex. EC128-1). Errors without a code are counted as UNKNOWN.
+     *
+     * @return Errors by error code
+     */
+    Map<String, Long> getErrorCounts();
+
+    /**
+     * Gets the number of serialized image bytes produced per file format
+     *
+     * @return Bytes by format
+     */
+    Map<String, Long> getBytesByFormat();
+
+    /**
+     * Gets the mean, p50, p99 and p999 of the validate and encode stages per encoding type
+     *
+     * @return Encode latencies in nanoseconds
+     */
+    Map<String, Long> getEncodeLatencies();
+
+    /**
+     * Gets the mean, p50, p99 and p999 of the layout, rasterize and label stages per encoding type
+     *
+     * @return Draw latencies in nanoseconds
+     */
+    Map<String, Long> getDrawLatencies();
+
+    /**
+     * Gets the hit, miss and eviction counts, size and hit rate (in percent) of the encoding cache, if set
+     *
+     * @return Encoding cache statistics, empty if not set
+     */
+    Map<String, Long> getEncodingCacheStatistics();
+
+    /**
+     * Gets the hit, miss and eviction counts, size and hit rate (in percent) of the render cache, if set
+     *
+     * @return Render cache statistics, empty if not set
+     */
+    Map<String, Long> getRenderCacheStatistics();
+
+    /**
+     * Gets the hit, miss and eviction counts, size and hit rate (in percent) of the disk render cache, if set
+     *
+     * @return Disk render cache statistics, empty if not set
+     */
+    Map<String, Long> getDiskRenderCacheStatistics();
+
+    /**
+     * Resets all counters and latencies. Cache statistics are kept by the caches.
+     */
+    void reset();
+}
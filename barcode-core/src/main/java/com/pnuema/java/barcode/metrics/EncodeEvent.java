@@ -0,0 +1,207 @@
+package com.pnuema.java.barcode.metrics;
+
+import com.pnuema.java.barcode.EncodingType;
+
+/**
+ * Describes a single encode: the symbology, the length of the payload, whether it succeeded and how long each stage
+ * took. Instances are immutable.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class EncodeEvent {
+    /**
+     * The stages of producing a barcode, in the order they run.
+     */
+    public enum Stage {
+        /**
+         * Checking the input data and encoding type.
+         */
+        VALIDATE,
+        /**
+         * Encoding the data into bars and spaces.
+         */
+        ENCODE,
+        /**
+         * Computing the image size, bar width and label font.
+         */
+        LAYOUT,
+        /**
+         * Allocating the image and drawing the bars.
+         */
+        RASTERIZE,
+        /**
+         * Drawing the label.
+         */
+        LABEL,
+        /**
+         * Compressing the image into a file format.
+         */
+        SERIALIZE
+    }
+
+    /**
+     * The result of an encode.
+     */
+    public enum Outcome {
+        /**
+         * The barcode was produced.
+         */
+        SUCCESS,
+        /**
+         * The encode failed with an exception.
+         */
+        FAILURE
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final EncodingType encodingType;
+    private final int payloadLength;
+    private final long[] stageNanos;
+    private final Outcome outcome;
+    private final String errorMessage;
+    private final String format;
+    private final long serializedBytes;
+
+    /**
+     * Constructor for an encode that did not serialize the image.
+     *
+     * @param encodingType  Type of encoding, can be null if the encode failed validation
+     * @param payloadLength Length of the raw data passed to the encode
+     * @param stageNanos    Nanoseconds spent in each stage by ordinal, negative for stages that did not run
+     * @param errorMessage  Message of the exception that failed the encode, null if it succeeded
+     */
+    public EncodeEvent(EncodingType encodingType, int payloadLength, long[] stageNanos, String errorMessage) {
+        this(encodingType, payloadLength, stageNanos, errorMessage, null, -1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param encodingType    Type of encoding, can be null if the encode failed validation
+     * @param payloadLength   Length of the raw data passed to the encode
+     * @param stageNanos      Nanoseconds spent in each stage by ordinal, negative for stages that did not run
+     * @param errorMessage    Message of the exception that failed the encode, null if it succeeded
+     * @param format          Name of the file format the image was serialized to (ex. PNG), null if not serialized
+     * @param serializedBytes Number of bytes of the serialized image, negative if not serialized
+     */
+    public EncodeEvent(EncodingType encodingType, int payloadLength, long[] stageNanos, String errorMessage, String format, long serializedBytes) {
+        if (stageNanos.length != STAGES.length) {
+            throw new IllegalArgumentException("EENCODEEVENT-1: Stage durations must contain one entry per stage.");
+        }
+
+        this.encodingType = encodingType;
+        this.payloadLength = payloadLength;
+        this.stageNanos = stageNanos.clone();
+        this.outcome = errorMessage == null ? Outcome.SUCCESS : Outcome.FAILURE;
+        this.errorMessage = errorMessage;
+        this.format = format;
+        this.serializedBytes = serializedBytes;
+    }
+
+    /**
+     * Gets the encoding type of the encode
+     *
+     * @return Encoding type, null if the encode failed before it was validated
+     */
+    public EncodingType getEncodingType() {
+        return encodingType;
+    }
+
+    /**
+     * Gets the length of the raw data passed to the encode
+     *
+     * @return Payload length
+     */
+    public int getPayloadLength() {
+        return payloadLength;
+    }
+
+    /**
+     * Gets whether the encode succeeded
+     *
+     * @return Outcome
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the message of the exception that failed the encode
+     *
+     * @return Error message, null if the encode succeeded
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Gets the error code of the exception that failed the encode, the part of the message in front of the first
+     * colon. (ex. EENCODE-1)
+     *
+     * @return Error code, null if the encode succeeded or the message has no error code
+     */
+    public String getErrorCode() {
+        if (errorMessage == null) {
+            return null;
+        }
+
+        int end = errorMessage.indexOf(':');
+        if (end <= 0) {
+            return null;
+        }
+
+        String code = errorMessage.substring(0, end);
+        return code.indexOf(' ') < 0 && code.indexOf('-') > 0 ? code : null;
+    }
+
+    /**
+     * Gets the file format the image was serialized to
+     *
+     * @return Name of the format (ex. PNG), null if the image was not serialized
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the size of the serialized image
+     *
+     * @return Number of bytes, negative if the image was not serialized
+     */
+    public long getSerializedBytes() {
+        return serializedBytes;
+    }
+
+    /**
+     * Gets whether a stage ran during the encode
+     *
+     * @param stage Stage
+     * @return True if the stage ran, false if it was skipped or the encode failed before it
+     */
+    public boolean hasStage(Stage stage) {
+        return stageNanos[stage.ordinal()] >= 0;
+    }
+
+    /**
+     * Gets the time spent in a stage
+     *
+     * @param stage Stage
+     * @return Nanoseconds spent in the stage, 0 if it did not run
+     */
+    public long getStageNanos(Stage stage) {
+        return Math.max(stageNanos[stage.ordinal()], 0);
+    }
+
+    /**
+     * Gets the time spent in all stages
+     *
+     * @return Total nanoseconds
+     */
+    public long getTotalNanos() {
+        long total = 0;
+        for (long nanos : stageNanos) {
+            total += Math.max(nanos, 0);
+        }
+        return total;
+    }
+}
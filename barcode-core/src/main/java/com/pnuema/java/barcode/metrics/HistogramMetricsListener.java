@@ -0,0 +1,108 @@
+package com.pnuema.java.barcode.metrics;
+
+import com.pnuema.java.barcode.EncodingType;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics listener keeping a {@link LatencyHistogram} of the total time and of each stage per encoding type, plus a
+ * count of failed encodes. Histograms are created the first time an encoding type is seen. Successful encodes are
+ * recorded, failures are only counted. Nothing in the listener locks, one instance can be shared by all barcodes.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class HistogramMetricsListener implements BarcodeMetricsListener {
+    private static final EncodeEvent.Stage[] STAGES = EncodeEvent.Stage.values();
+
+    private final AtomicReferenceArray<Histograms> histograms = new AtomicReferenceArray<>(EncodingType.values().length);
+
+    private static final class Histograms {
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LatencyHistogram[] stages = new LatencyHistogram[STAGES.length];
+        private final LongAdder failures = new LongAdder();
+
+        private Histograms() {
+            for (int i = 0; i < stages.length; i++) {
+                stages[i] = new LatencyHistogram();
+            }
+        }
+    }
+
+    @Override
+    public void onEncode(EncodeEvent event) {
+        if (event.getEncodingType() == null) {
+            return;
+        }
+
+        Histograms histograms = histogramsFor(event.getEncodingType());
+        if (event.getOutcome() == EncodeEvent.Outcome.FAILURE) {
+            histograms.failures.increment();
+            return;
+        }
+
+        histograms.total.record(event.getTotalNanos());
+        for (EncodeEvent.Stage stage : STAGES) {
+            if (event.hasStage(stage)) {
+                histograms.stages[stage.ordinal()].record(event.getStageNanos(stage));
+            }
+        }
+    }
+
+    /**
+     * Gets the histogram of the total time of successful encodes of an encoding type
+     *
+     * @param type Type of encoding
+     * @return Histogram of total durations
+     */
+    public LatencyHistogram getHistogram(EncodingType type) {
+        return histogramsFor(type).total;
+    }
+
+    /**
+     * Gets the histogram of a single stage of successful encodes of an encoding type
+     *
+     * @param type  Type of encoding
+     * @param stage Stage
+     * @return Histogram of stage durations
+     */
+    public LatencyHistogram getHistogram(EncodingType type, EncodeEvent.Stage stage) {
+        return histogramsFor(type).stages[stage.ordinal()];
+    }
+
+    /**
+     * Gets the number of failed encodes of an encoding type
+     *
+     * @param type Type of encoding
+     * @return Failure count
+     */
+    public long getFailureCount(EncodingType type) {
+        Histograms existing = histograms.get(type.ordinal());
+        return existing == null ? 0 : existing.failures.sum();
+    }
+
+    /**
+     * Removes all recorded durations and failure counts.
+     */
+    public void reset() {
+        for (int i = 0; i < histograms.length(); i++) {
+            histograms.set(i, null);
+        }
+    }
+
+    private Histograms histogramsFor(EncodingType type) {
+        Histograms created = null;
+        while (true) {
+            Histograms existing = histograms.get(type.ordinal());
+            if (existing != null) {
+                return existing;
+            }
+
+            if (created == null) {
+                created = new Histograms();
+            }
+            if (histograms.compareAndSet(type.ordinal(), null, created)) {
+                return created;
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.pnuema.java.barcode.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free histogram of durations in nanoseconds.
+ * Values below 64 are counted exactly, larger values in buckets 1/32 of their power of two wide, so any reported
+ * percentile is within about 3% of the recorded value. Values above 2^40 nanoseconds (about 18 minutes) are counted
+ * in the last bucket. Recording is a few atomic increments and never blocks, so one instance can be shared by any
+ * number of threads.
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_BITS = 40;
+    private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+    private static final int BUCKETS = (MAX_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos Duration in nanoseconds, negative values are ignored
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            return;
+        }
+
+        counts.incrementAndGet(bucketOf(Math.min(nanos, MAX_VALUE)));
+        totalCount.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Gets the number of recorded durations
+     *
+     * @return Count
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Gets the mean of the recorded durations
+     *
+     * @return Mean in nanoseconds, 0 if nothing was recorded
+     */
+    public double getMean() {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalNanos.sum() / count;
+    }
+
+    /**
+     * Gets the longest recorded duration
+     *
+     * @return Maximum in nanoseconds
+     */
+    public long getMax() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Gets the duration below which the given percentage of the recorded durations fall.
+     * Concurrent recording may or may not be included.
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Upper bound of the bucket holding the percentile in nanoseconds, 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("ELATENCYHISTOGRAM-1: Percentile must be between 0 and 100.");
+        }
+
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Gets the median duration
+     *
+     * @return 50th percentile in nanoseconds
+     */
+    public long getP50() {
+        return getValueAtPercentile(50);
+    }
+
+    /**
+     * Gets the 99th percentile duration
+     *
+     * @return 99th percentile in nanoseconds
+     */
+    public long getP99() {
+        return getValueAtPercentile(99);
+    }
+
+    /**
+     * Gets the 99.9th percentile duration
+     *
+     * @return 99.9th percentile in nanoseconds
+     */
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Removes all recorded durations. Durations recorded concurrently may be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{count=" + getCount() + ", p50=" + getP50() + "ns, p99=" + getP99() + "ns, p999=" + getP999() + "ns, max=" + getMax() + "ns}";
+    }
+
+    private static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long highestValueOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -12,7 +12,7 @@ import java.util.HashMap;
  * blood banks, and air parcel services.
  */
 public class Codabar extends BarcodeCommon {
-    private final HashMap<Character, String> codabarCode = new HashMap<>();
+    private static final HashMap<Character, String> codabarCode = initCodabar();
 
     /**
      * Constructs an instance of the Codabar barcode class using the provided input string.
@@ -57,9 +57,6 @@ public class Codabar extends BarcodeCommon {
                 break;
         }
 
-        //populate the hashtable to begin the process
-        initCodabar();
-
         //replace non-numeric VALID chars with empty strings before checking for all numerics
         String temp = getRawData();
 
@@ -83,41 +80,40 @@ public class Codabar extends BarcodeCommon {
         //remove the extra 0 at the end of the result
         result.deleteCharAt(result.length() - 1);
 
-        //clears the hashtable so it no longer takes up memory
-        codabarCode.clear();
-
         //change the Raw_Data to strip out the start stop chars for label purposes
         setRawData(getRawData().trim().substring(1, getRawData().trim().length() - 2));
 
         return result.toString();
     }
 
-    private void initCodabar() {
-        codabarCode.clear();
-        codabarCode.put('0', "101010011");
-        codabarCode.put('1', "101011001");
-        codabarCode.put('2', "101001011");
-        codabarCode.put('3', "110010101");
-        codabarCode.put('4', "101101001");
-        codabarCode.put('5', "110101001");
-        codabarCode.put('6', "100101011");
-        codabarCode.put('7', "100101101");
-        codabarCode.put('8', "100110101");
-        codabarCode.put('9', "110100101");
-        codabarCode.put('-', "101001101");
-        codabarCode.put('$', "101100101");
-        codabarCode.put(':', "1101011011");
-        codabarCode.put('/', "1101101011");
-        codabarCode.put('.', "1101101101");
-        codabarCode.put('+', "1011011011");
-        codabarCode.put('A', "1011001001");
-        codabarCode.put('B', "1001001011");
-        codabarCode.put('C', "1010010011");
-        codabarCode.put('D', "1010011001");
-        codabarCode.put('a', "1011001001");
-        codabarCode.put('b', "1010010011");
-        codabarCode.put('c', "1001001011");
-        codabarCode.put('d', "1010011001");
+    private static HashMap<Character, String> initCodabar() {
+        HashMap<Character, String> table = new HashMap<>();
+        table.put('0', "101010011");
+        table.put('1', "101011001");
+        table.put('2', "101001011");
+        table.put('3', "110010101");
+        table.put('4', "101101001");
+        table.put('5', "110101001");
+        table.put('6', "100101011");
+        table.put('7', "100101101");
+        table.put('8', "100110101");
+        table.put('9', "110100101");
+        table.put('-', "101001101");
+        table.put('$', "101100101");
+        table.put(':', "1101011011");
+        table.put('/', "1101101011");
+        table.put('.', "1101101101");
+        table.put('+', "1011011011");
+        table.put('A', "1011001001");
+        table.put('B', "1001001011");
+        table.put('C', "1010010011");
+        table.put('D', "1010011001");
+        table.put('a', "1011001001");
+        table.put('b', "1010010011");
+        table.put('c', "1001001011");
+        table.put('d', "1010011001");
+
+        return table;
     }
 
     @Override
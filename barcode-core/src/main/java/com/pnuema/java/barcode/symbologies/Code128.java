@@ -23,7 +23,7 @@ import static com.pnuema.java.barcode.utils.CharUtils.getChar;
  * - {@code Code128(String input, TYPES type)}: Encodes the given data in Code 128 format with the specified encoding type.
  * Methods:
  * - {@code private String encodeCode128()}: Encodes the input data as per the Code 128 encoding rules and generates the final barcode string.
- * - {@code private void initCode128()}: Initializes and preprocesses data for the encoding process, ensuring conformity with Code 128 standards.
+ * - {@code private static List<Entry> initCode128()}: Builds the shared Code 128 encoding table once for all instances.
  * - {@code private Entry findRow(String column, String match)}: Searches for the corresponding encoding row in the Code 128 table based on the given column and value.
  * - {@code private CodeCharacter findStartorCodeCharacter(String s)}: Identifies the appropriate start or code character for the provided string.
  * - {@code private String CalculateCheckDigit()}: Calculates the check digit for the barcode to ensure data integrity.
@@ -85,7 +85,7 @@ public class Code128 extends BarcodeCommon {
          */
         C
     }
-    private final List<Entry> C128_Code = new ArrayList<>();
+    private static final List<Entry> C128_Code = initCode128();
     private final List<String> formattedData = new ArrayList<>();
     private Entry startCharacter = null;
     private TYPES type = TYPES.DYNAMIC;
@@ -150,123 +150,134 @@ public class Code128 extends BarcodeCommon {
     }
 
     private String encodeCode128() {
-        //initialize data structure to hold encoding information
-        initCode128();
-
         return getEncoding();
     }
 
-    private void initCode128() {
+    /**
+     * Gets the bar/space pattern of the symbol character with the given value.
+     *
+     * @param value Symbol character value (0-105, 106 for the stop character)
+     * @return Pattern of 11 modules for the symbol character
+     */
+    static String getPattern(int value) {
+        return C128_Code.get(value).getEncoding();
+    }
+
+    private static List<Entry> initCode128() {
+        List<Entry> table = new ArrayList<>();
+
         //populate data
-        this.C128_Code.add(new Entry ( "0", " ", " ", "00", "11011001100" ));
-        this.C128_Code.add(new Entry ( "1", "!", "!", "01", "11001101100" ));
-        this.C128_Code.add(new Entry ( "2", "\"", "\"", "02", "11001100110" ));
-        this.C128_Code.add(new Entry ( "3", "#", "#", "03", "10010011000" ));
-        this.C128_Code.add(new Entry ( "4", "$", "$", "04", "10010001100" ));
-        this.C128_Code.add(new Entry ( "5", "%", "%", "05", "10001001100" ));
-        this.C128_Code.add(new Entry ( "6", "&", "&", "06", "10011001000" ));
-        this.C128_Code.add(new Entry ( "7", "'", "'", "07", "10011000100" ));
-        this.C128_Code.add(new Entry ( "8", "(", "(", "08", "10001100100" ));
-        this.C128_Code.add(new Entry ( "9", ")", ")", "09", "11001001000" ));
-        this.C128_Code.add(new Entry ( "10", "*", "*", "10", "11001000100" ));
-        this.C128_Code.add(new Entry ( "11", "+", "+", "11", "11000100100" ));
-        this.C128_Code.add(new Entry ( "12", ",", ",", "12", "10110011100" ));
-        this.C128_Code.add(new Entry ( "13", "-", "-", "13", "10011011100" ));
-        this.C128_Code.add(new Entry ( "14", ".", ".", "14", "10011001110" ));
-        this.C128_Code.add(new Entry ( "15", "/", "/", "15", "10111001100" ));
-        this.C128_Code.add(new Entry ( "16", "0", "0", "16", "10011101100" ));
-        this.C128_Code.add(new Entry ( "17", "1", "1", "17", "10011100110" ));
-        this.C128_Code.add(new Entry ( "18", "2", "2", "18", "11001110010" ));
-        this.C128_Code.add(new Entry ( "19", "3", "3", "19", "11001011100" ));
-        this.C128_Code.add(new Entry ( "20", "4", "4", "20", "11001001110" ));
-        this.C128_Code.add(new Entry ( "21", "5", "5", "21", "11011100100" ));
-        this.C128_Code.add(new Entry ( "22", "6", "6", "22", "11001110100" ));
-        this.C128_Code.add(new Entry ( "23", "7", "7", "23", "11101101110" ));
-        this.C128_Code.add(new Entry ( "24", "8", "8", "24", "11101001100" ));
-        this.C128_Code.add(new Entry ( "25", "9", "9", "25", "11100101100" ));
-        this.C128_Code.add(new Entry ( "26", ":", ":", "26", "11100100110" ));
-        this.C128_Code.add(new Entry ( "27", ";", ";", "27", "11101100100" ));
-        this.C128_Code.add(new Entry ( "28", "<", "<", "28", "11100110100" ));
-        this.C128_Code.add(new Entry ( "29", "=", "=", "29", "11100110010" ));
-        this.C128_Code.add(new Entry ( "30", ">", ">", "30", "11011011000" ));
-        this.C128_Code.add(new Entry ( "31", "?", "?", "31", "11011000110" ));
-        this.C128_Code.add(new Entry ( "32", "@", "@", "32", "11000110110" ));
-        this.C128_Code.add(new Entry ( "33", "A", "A", "33", "10100011000" ));
-        this.C128_Code.add(new Entry ( "34", "B", "B", "34", "10001011000" ));
-        this.C128_Code.add(new Entry ( "35", "C", "C", "35", "10001000110" ));
-        this.C128_Code.add(new Entry ( "36", "D", "D", "36", "10110001000" ));
-        this.C128_Code.add(new Entry ( "37", "E", "E", "37", "10001101000" ));
-        this.C128_Code.add(new Entry ( "38", "F", "F", "38", "10001100010" ));
-        this.C128_Code.add(new Entry ( "39", "G", "G", "39", "11010001000" ));
-        this.C128_Code.add(new Entry ( "40", "H", "H", "40", "11000101000" ));
-        this.C128_Code.add(new Entry ( "41", "I", "I", "41", "11000100010" ));
-        this.C128_Code.add(new Entry ( "42", "J", "J", "42", "10110111000" ));
-        this.C128_Code.add(new Entry ( "43", "K", "K", "43", "10110001110" ));
-        this.C128_Code.add(new Entry ( "44", "L", "L", "44", "10001101110" ));
-        this.C128_Code.add(new Entry ( "45", "M", "M", "45", "10111011000" ));
-        this.C128_Code.add(new Entry ( "46", "N", "N", "46", "10111000110" ));
-        this.C128_Code.add(new Entry ( "47", "O", "O", "47", "10001110110" ));
-        this.C128_Code.add(new Entry ( "48", "P", "P", "48", "11101110110" ));
-        this.C128_Code.add(new Entry ( "49", "Q", "Q", "49", "11010001110" ));
-        this.C128_Code.add(new Entry ( "50", "R", "R", "50", "11000101110" ));
-        this.C128_Code.add(new Entry ( "51", "S", "S", "51", "11011101000" ));
-        this.C128_Code.add(new Entry ( "52", "T", "T", "52", "11011100010" ));
-        this.C128_Code.add(new Entry ( "53", "U", "U", "53", "11011101110" ));
-        this.C128_Code.add(new Entry ( "54", "V", "V", "54", "11101011000" ));
-        this.C128_Code.add(new Entry ( "55", "W", "W", "55", "11101000110" ));
-        this.C128_Code.add(new Entry ( "56", "X", "X", "56", "11100010110" ));
-        this.C128_Code.add(new Entry ( "57", "Y", "Y", "57", "11101101000" ));
-        this.C128_Code.add(new Entry ( "58", "Z", "Z", "58", "11101100010" ));
-        this.C128_Code.add(new Entry ( "59", "[", "[", "59", "11100011010" ));
-        this.C128_Code.add(new Entry ( "60","\\", "\\", "60", "11101111010" ));
-        this.C128_Code.add(new Entry ( "61", "]", "]", "61", "11001000010" ));
-        this.C128_Code.add(new Entry ( "62", "^", "^", "62", "11110001010" ));
-        this.C128_Code.add(new Entry ( "63", "_", "_", "63", "10100110000" ));
-        this.C128_Code.add(new Entry ( "64", "\0", "`", "64", "10100001100" ));
-        this.C128_Code.add(new Entry ( "65", getChar(1), "a", "65", "10010110000" ));
-        this.C128_Code.add(new Entry ( "66", getChar(2), "b", "66", "10010000110" ));
-        this.C128_Code.add(new Entry ( "67", getChar(3), "c", "67", "10000101100" ));
-        this.C128_Code.add(new Entry ( "68", getChar(4), "d", "68", "10000100110" ));
-        this.C128_Code.add(new Entry ( "69", getChar(5), "e", "69", "10110010000" ));
-        this.C128_Code.add(new Entry ( "70", getChar(6), "f", "70", "10110000100" ));
-        this.C128_Code.add(new Entry ( "71", getChar(7), "g", "71", "10011010000" ));
-        this.C128_Code.add(new Entry ( "72", getChar(8), "h", "72", "10011000010" ));
-        this.C128_Code.add(new Entry ( "73", getChar(9), "i", "73", "10000110100" ));
-        this.C128_Code.add(new Entry ( "74", getChar(10), "j", "74", "10000110010" ));
-        this.C128_Code.add(new Entry ( "75", getChar(11), "k", "75", "11000010010" ));
-        this.C128_Code.add(new Entry ( "76", getChar(12), "l", "76", "11001010000" ));
-        this.C128_Code.add(new Entry ( "77", getChar(13), "m", "77", "11110111010" ));
-        this.C128_Code.add(new Entry ( "78", getChar(14), "n", "78", "11000010100" ));
-        this.C128_Code.add(new Entry ( "79", getChar(15), "o", "79", "10001111010" ));
-        this.C128_Code.add(new Entry ( "80", getChar(16), "p", "80", "10100111100" ));
-        this.C128_Code.add(new Entry ( "81", getChar(17), "q", "81", "10010111100" ));
-        this.C128_Code.add(new Entry ( "82", getChar(18), "r", "82", "10010011110" ));
-        this.C128_Code.add(new Entry ( "83", getChar(19), "s", "83", "10111100100" ));
-        this.C128_Code.add(new Entry ( "84", getChar(20), "t", "84", "10011110100" ));
-        this.C128_Code.add(new Entry ( "85", getChar(21), "u", "85", "10011110010" ));
-        this.C128_Code.add(new Entry ( "86", getChar(22), "v", "86", "11110100100" ));
-        this.C128_Code.add(new Entry ( "87", getChar(23), "w", "87", "11110010100" ));
-        this.C128_Code.add(new Entry ( "88", getChar(24), "x", "88", "11110010010" ));
-        this.C128_Code.add(new Entry ( "89", getChar(25), "y", "89", "11011011110" ));
-        this.C128_Code.add(new Entry ( "90", getChar(26), "z", "90", "11011110110" ));
-        this.C128_Code.add(new Entry ( "91", getChar(27), "{", "91", "11110110110" ));
-        this.C128_Code.add(new Entry ( "92", getChar(28), "|", "92", "10101111000" ));
-        this.C128_Code.add(new Entry ( "93", getChar(29), "}", "93", "10100011110" ));
-        this.C128_Code.add(new Entry ( "94", getChar(30), "~", "94", "10001011110" ));
-
-        this.C128_Code.add(new Entry ( "95", getChar(31), getChar(127), "95", "10111101000" ));
-        this.C128_Code.add(new Entry ( "96", getChar(202)/*FNC3*/, getChar(202)/*FNC3*/, "96", "10111100010" ));
-        this.C128_Code.add(new Entry ( "97", getChar(201)/*FNC2*/, getChar(201)/*FNC2*/, "97", "11110101000" ));
-        this.C128_Code.add(new Entry ( "98", "SHIFT", "SHIFT", "98", "11110100010" ));
-        this.C128_Code.add(new Entry ( "99", "CODE_C", "CODE_C", "99", "10111011110" ));
-        this.C128_Code.add(new Entry ( "100", "CODE_B", getChar(203)/*FNC4*/, "CODE_B", "10111101110" ));
-        this.C128_Code.add(new Entry ( "101", getChar(203)/*FNC4*/, "CODE_A", "CODE_A", "11101011110" ));
-        this.C128_Code.add(new Entry ( "102", getChar(200)/*FNC1*/, getChar(200)/*FNC1*/, getChar(200)/*FNC1*/, "11110101110" ));
-        this.C128_Code.add(new Entry ( "103", "START_A", "START_A", "START_A", "11010000100" ));
-        this.C128_Code.add(new Entry ( "104", "START_B", "START_B", "START_B", "11010010000" ));
-        this.C128_Code.add(new Entry ( "105", "START_C", "START_C", "START_C", "11010011100" ));
-        this.C128_Code.add(new Entry ( "", "STOP", "STOP", "STOP", "11000111010" ));
-     }
+        table.add(new Entry ( "0", " ", " ", "00", "11011001100" ));
+        table.add(new Entry ( "1", "!", "!", "01", "11001101100" ));
+        table.add(new Entry ( "2", "\"", "\"", "02", "11001100110" ));
+        table.add(new Entry ( "3", "#", "#", "03", "10010011000" ));
+        table.add(new Entry ( "4", "$", "$", "04", "10010001100" ));
+        table.add(new Entry ( "5", "%", "%", "05", "10001001100" ));
+        table.add(new Entry ( "6", "&", "&", "06", "10011001000" ));
+        table.add(new Entry ( "7", "'", "'", "07", "10011000100" ));
+        table.add(new Entry ( "8", "(", "(", "08", "10001100100" ));
+        table.add(new Entry ( "9", ")", ")", "09", "11001001000" ));
+        table.add(new Entry ( "10", "*", "*", "10", "11001000100" ));
+        table.add(new Entry ( "11", "+", "+", "11", "11000100100" ));
+        table.add(new Entry ( "12", ",", ",", "12", "10110011100" ));
+        table.add(new Entry ( "13", "-", "-", "13", "10011011100" ));
+        table.add(new Entry ( "14", ".", ".", "14", "10011001110" ));
+        table.add(new Entry ( "15", "/", "/", "15", "10111001100" ));
+        table.add(new Entry ( "16", "0", "0", "16", "10011101100" ));
+        table.add(new Entry ( "17", "1", "1", "17", "10011100110" ));
+        table.add(new Entry ( "18", "2", "2", "18", "11001110010" ));
+        table.add(new Entry ( "19", "3", "3", "19", "11001011100" ));
+        table.add(new Entry ( "20", "4", "4", "20", "11001001110" ));
+        table.add(new Entry ( "21", "5", "5", "21", "11011100100" ));
+        table.add(new Entry ( "22", "6", "6", "22", "11001110100" ));
+        table.add(new Entry ( "23", "7", "7", "23", "11101101110" ));
+        table.add(new Entry ( "24", "8", "8", "24", "11101001100" ));
+        table.add(new Entry ( "25", "9", "9", "25", "11100101100" ));
+        table.add(new Entry ( "26", ":", ":", "26", "11100100110" ));
+        table.add(new Entry ( "27", ";", ";", "27", "11101100100" ));
+        table.add(new Entry ( "28", "<", "<", "28", "11100110100" ));
+        table.add(new Entry ( "29", "=", "=", "29", "11100110010" ));
+        table.add(new Entry ( "30", ">", ">", "30", "11011011000" ));
+        table.add(new Entry ( "31", "?", "?", "31", "11011000110" ));
+        table.add(new Entry ( "32", "@", "@", "32", "11000110110" ));
+        table.add(new Entry ( "33", "A", "A", "33", "10100011000" ));
+        table.add(new Entry ( "34", "B", "B", "34", "10001011000" ));
+        table.add(new Entry ( "35", "C", "C", "35", "10001000110" ));
+        table.add(new Entry ( "36", "D", "D", "36", "10110001000" ));
+        table.add(new Entry ( "37", "E", "E", "37", "10001101000" ));
+        table.add(new Entry ( "38", "F", "F", "38", "10001100010" ));
+        table.add(new Entry ( "39", "G", "G", "39", "11010001000" ));
+        table.add(new Entry ( "40", "H", "H", "40", "11000101000" ));
+        table.add(new Entry ( "41", "I", "I", "41", "11000100010" ));
+        table.add(new Entry ( "42", "J", "J", "42", "10110111000" ));
+        table.add(new Entry ( "43", "K", "K", "43", "10110001110" ));
+        table.add(new Entry ( "44", "L", "L", "44", "10001101110" ));
+        table.add(new Entry ( "45", "M", "M", "45", "10111011000" ));
+        table.add(new Entry ( "46", "N", "N", "46", "10111000110" ));
+        table.add(new Entry ( "47", "O", "O", "47", "10001110110" ));
+        table.add(new Entry ( "48", "P", "P", "48", "11101110110" ));
+        table.add(new Entry ( "49", "Q", "Q", "49", "11010001110" ));
+        table.add(new Entry ( "50", "R", "R", "50", "11000101110" ));
+        table.add(new Entry ( "51", "S", "S", "51", "11011101000" ));
+        table.add(new Entry ( "52", "T", "T", "52", "11011100010" ));
+        table.add(new Entry ( "53", "U", "U", "53", "11011101110" ));
+        table.add(new Entry ( "54", "V", "V", "54", "11101011000" ));
+        table.add(new Entry ( "55", "W", "W", "55", "11101000110" ));
+        table.add(new Entry ( "56", "X", "X", "56", "11100010110" ));
+        table.add(new Entry ( "57", "Y", "Y", "57", "11101101000" ));
+        table.add(new Entry ( "58", "Z", "Z", "58", "11101100010" ));
+        table.add(new Entry ( "59", "[", "[", "59", "11100011010" ));
+        table.add(new Entry ( "60","\\", "\\", "60", "11101111010" ));
+        table.add(new Entry ( "61", "]", "]", "61", "11001000010" ));
+        table.add(new Entry ( "62", "^", "^", "62", "11110001010" ));
+        table.add(new Entry ( "63", "_", "_", "63", "10100110000" ));
+        table.add(new Entry ( "64", "\0", "`", "64", "10100001100" ));
+        table.add(new Entry ( "65", getChar(1), "a", "65", "10010110000" ));
+        table.add(new Entry ( "66", getChar(2), "b", "66", "10010000110" ));
+        table.add(new Entry ( "67", getChar(3), "c", "67", "10000101100" ));
+        table.add(new Entry ( "68", getChar(4), "d", "68", "10000100110" ));
+        table.add(new Entry ( "69", getChar(5), "e", "69", "10110010000" ));
+        table.add(new Entry ( "70", getChar(6), "f", "70", "10110000100" ));
+        table.add(new Entry ( "71", getChar(7), "g", "71", "10011010000" ));
+        table.add(new Entry ( "72", getChar(8), "h", "72", "10011000010" ));
+        table.add(new Entry ( "73", getChar(9), "i", "73", "10000110100" ));
+        table.add(new Entry ( "74", getChar(10), "j", "74", "10000110010" ));
+        table.add(new Entry ( "75", getChar(11), "k", "75", "11000010010" ));
+        table.add(new Entry ( "76", getChar(12), "l", "76", "11001010000" ));
+        table.add(new Entry ( "77", getChar(13), "m", "77", "11110111010" ));
+        table.add(new Entry ( "78", getChar(14), "n", "78", "11000010100" ));
+        table.add(new Entry ( "79", getChar(15), "o", "79", "10001111010" ));
+        table.add(new Entry ( "80", getChar(16), "p", "80", "10100111100" ));
+        table.add(new Entry ( "81", getChar(17), "q", "81", "10010111100" ));
+        table.add(new Entry ( "82", getChar(18), "r", "82", "10010011110" ));
+        table.add(new Entry ( "83", getChar(19), "s", "83", "10111100100" ));
+        table.add(new Entry ( "84", getChar(20), "t", "84", "10011110100" ));
+        table.add(new Entry ( "85", getChar(21), "u", "85", "10011110010" ));
+        table.add(new Entry ( "86", getChar(22), "v", "86", "11110100100" ));
+        table.add(new Entry ( "87", getChar(23), "w", "87", "11110010100" ));
+        table.add(new Entry ( "88", getChar(24), "x", "88", "11110010010" ));
+        table.add(new Entry ( "89", getChar(25), "y", "89", "11011011110" ));
+        table.add(new Entry ( "90", getChar(26), "z", "90", "11011110110" ));
+        table.add(new Entry ( "91", getChar(27), "{", "91", "11110110110" ));
+        table.add(new Entry ( "92", getChar(28), "|", "92", "10101111000" ));
+        table.add(new Entry ( "93", getChar(29), "}", "93", "10100011110" ));
+        table.add(new Entry ( "94", getChar(30), "~", "94", "10001011110" ));
+
+        table.add(new Entry ( "95", getChar(31), getChar(127), "95", "10111101000" ));
+        table.add(new Entry ( "96", getChar(202)/*FNC3*/, getChar(202)/*FNC3*/, "96", "10111100010" ));
+        table.add(new Entry ( "97", getChar(201)/*FNC2*/, getChar(201)/*FNC2*/, "97", "11110101000" ));
+        table.add(new Entry ( "98", "SHIFT", "SHIFT", "98", "11110100010" ));
+        table.add(new Entry ( "99", "CODE_C", "CODE_C", "99", "10111011110" ));
+        table.add(new Entry ( "100", "CODE_B", getChar(203)/*FNC4*/, "CODE_B", "10111101110" ));
+        table.add(new Entry ( "101", getChar(203)/*FNC4*/, "CODE_A", "CODE_A", "11101011110" ));
+        table.add(new Entry ( "102", getChar(200)/*FNC1*/, getChar(200)/*FNC1*/, getChar(200)/*FNC1*/, "11110101110" ));
+        table.add(new Entry ( "103", "START_A", "START_A", "START_A", "11010000100" ));
+        table.add(new Entry ( "104", "START_B", "START_B", "START_B", "11010010000" ));
+        table.add(new Entry ( "105", "START_C", "START_C", "START_C", "11010011100" ));
+        table.add(new Entry ( "", "STOP", "STOP", "STOP", "11000111010" ));
+
+        return table;
+    }
 
     private Entry findRow(String column, String match) {
         for (Entry entry : C128_Code) {
@@ -301,7 +312,7 @@ public class Code128 extends BarcodeCommon {
         } else {
             boolean AFound = false;
             boolean BFound = false;
-            for (Entry row : this.C128_Code) {
+            for (Entry row : C128_Code) {
                 try {
                     if (!AFound && s.equals(row.A)) {
                         AFound = true;
@@ -0,0 +1,261 @@
+package com.pnuema.java.barcode.symbologies;
+
+import com.pnuema.java.barcode.BarcodeCommon;
+
+import java.util.HashMap;
+
+import static com.pnuema.java.barcode.utils.CharUtils.getChar;
+
+/**
+ * The Code39 class provides functionality for encoding data into
+ * Code 39 barcodes, a widely used barcode standard. Code 39 is capable
+ * of encoding alphanumeric characters, and this implementation supports
+ * both standard and extended (full ASCII) modes.
+ * Constructors allow configuration of extended mode and checksum encoding.
+ */
+public class Code39 extends BarcodeCommon {
+    private static final HashMap<Character, String> C39_Code = init_Code39();
+    private static final HashMap<String, String> ExtC39_Translation = init_ExtendedCode39();
+    private boolean _AllowExtended = false;
+    private boolean _EnableChecksum = false;
+
+    /**
+     * Encodes with Code39.
+     * @param input Data to encode
+     */
+    public Code39(String input) {
+        setRawData(input);
+    }
+
+    /**
+     * Encodes with Code39.
+     * @param input Data to encode
+     * @param AllowExtended Allow Extended Code 39 (Full Ascii mode)
+     */
+    public Code39(String input, boolean AllowExtended) {
+        setRawData(input);
+        _AllowExtended = AllowExtended;
+    }
+
+    /**
+     * Encodes with Code39.
+     * @param input Data to encode
+     * @param AllowExtended Allow Extended Code 39 (Full Ascii mode)
+     * @param EnableChecksum Whether to calculate the Mod 43 checksum and encode it into the barcode
+     */
+    public Code39(String input, boolean AllowExtended, boolean EnableChecksum) {
+        setRawData(input);
+        _AllowExtended = AllowExtended;
+        _EnableChecksum = EnableChecksum;
+    }
+
+    /**
+     * Encode the raw data using the Code 39 algorithm.
+     * @return Encoded string representation in code 39 format
+     */
+    private String encodeCode39() {
+        String strNoAsterisk = getRawData().replace("*", "");
+        String strFormattedData = "*" + strNoAsterisk + (_EnableChecksum ? getChecksumChar(strNoAsterisk) : "") + "*";
+
+        if (_AllowExtended) {
+            InsertExtendedCharsIfNeeded(strFormattedData);
+        }
+
+        StringBuilder result = new StringBuilder();
+        //foreach (char c in this.FormattedData)
+        for (char c : strFormattedData.toCharArray()) {
+            try {
+                result.append(C39_Code.get(c));
+                result.append("0");//whitespace
+            } catch(Exception ex) {
+                if (_AllowExtended) {
+                    error("EC39-1: Invalid data.");
+                } else {
+                    error("EC39-1: Invalid data. (Try using Extended Code39)");
+                }
+            }
+        }
+
+        result = new StringBuilder(result.substring(0, result.length() - 1));
+
+        return result.toString();
+        }//Encode_Code39
+private static HashMap<Character, String> init_Code39()
+        {
+        HashMap<Character, String> table = new HashMap<>();
+        table.put('0', "101001101101");
+        table.put('1', "110100101011");
+        table.put('2', "101100101011");
+        table.put('3', "110110010101");
+        table.put('4', "101001101011");
+        table.put('5', "110100110101");
+        table.put('6', "101100110101");
+        table.put('7', "101001011011");
+        table.put('8', "110100101101");
+        table.put('9', "101100101101");
+        table.put('A', "110101001011");
+        table.put('B', "101101001011");
+        table.put('C', "110110100101");
+        table.put('D', "101011001011");
+        table.put('E', "110101100101");
+        table.put('F', "101101100101");
+        table.put('G', "101010011011");
+        table.put('H', "110101001101");
+        table.put('I', "101101001101");
+        table.put('J', "101011001101");
+        table.put('K', "110101010011");
+        table.put('L', "101101010011");
+        table.put('M', "110110101001");
+        table.put('N', "101011010011");
+        table.put('O', "110101101001");
+        table.put('P', "101101101001");
+        table.put('Q', "101010110011");
+        table.put('R', "110101011001");
+        table.put('S', "101101011001");
+        table.put('T', "101011011001");
+        table.put('U', "110010101011");
+        table.put('V', "100110101011");
+        table.put('W', "110011010101");
+        table.put('X', "100101101011");
+        table.put('Y', "110010110101");
+        table.put('Z', "100110110101");
+        table.put('-', "100101011011");
+        table.put('.', "110010101101");
+        table.put(' ', "100110101101");
+        table.put('$', "100100100101");
+        table.put('/', "100100101001");
+        table.put('+', "100101001001");
+        table.put('%', "101001001001");
+        table.put('*', "100101101101");
+        return table;
+        }//init_Code39
+private static HashMap<String, String> init_ExtendedCode39()
+        {
+        HashMap<String, String> table = new HashMap<>();
+        table.put(getChar(0), "%U");
+        table.put(getChar(1), "$A");
+        table.put(getChar(2), "$B");
+        table.put(getChar(3), "$C");
+        table.put(getChar(4), "$D");
+        table.put(getChar(5), "$E");
+        table.put(getChar(6), "$F");
+        table.put(getChar(7), "$G");
+        table.put(getChar(8), "$H");
+        table.put(getChar(9), "$I");
+        table.put(getChar(10), "$J");
+        table.put(getChar(11), "$K");
+        table.put(getChar(12), "$L");
+        table.put(getChar(13), "$M");
+        table.put(getChar(14), "$N");
+        table.put(getChar(15), "$O");
+        table.put(getChar(16), "$P");
+        table.put(getChar(17), "$Q");
+        table.put(getChar(18), "$R");
+        table.put(getChar(19), "$S");
+        table.put(getChar(20), "$T");
+        table.put(getChar(21), "$U");
+        table.put(getChar(22), "$V");
+        table.put(getChar(23), "$W");
+        table.put(getChar(24), "$X");
+        table.put(getChar(25), "$Y");
+        table.put(getChar(26), "$Z");
+        table.put(getChar(27), "%A");
+        table.put(getChar(28), "%B");
+        table.put(getChar(29), "%C");
+        table.put(getChar(30), "%D");
+        table.put(getChar(31), "%E");
+        table.put("!", "/A");
+        table.put("\"", "/B");
+        table.put("#", "/C");
+        table.put("$", "/D");
+        table.put("%", "/E");
+        table.put("&", "/F");
+        table.put("'", "/G");
+        table.put("(", "/H");
+        table.put(")", "/I");
+        table.put("*", "/J");
+        table.put("+", "/K");
+        table.put(",", "/L");
+        table.put("/", "/O");
+        table.put(":", "/Z");
+        table.put(";", "%F");
+        table.put("<", "%G");
+        table.put("=", "%H");
+        table.put(">", "%I");
+        table.put("?", "%J");
+        table.put("[", "%K");
+        table.put("\\", "%L");
+        table.put("]", "%M");
+        table.put("^", "%N");
+        table.put("_", "%O");
+        table.put("{", "%P");
+        table.put("|", "%Q");
+        table.put("}", "%R");
+        table.put("~", "%S");
+        table.put("`", "%W");
+        table.put("@", "%V");
+        table.put("a", "+A");
+        table.put("b", "+B");
+        table.put("c", "+C");
+        table.put("d", "+D");
+        table.put("e", "+E");
+        table.put("f", "+F");
+        table.put("g", "+G");
+        table.put("h", "+H");
+        table.put("i", "+I");
+        table.put("j", "+J");
+        table.put("k", "+K");
+        table.put("l", "+L");
+        table.put("m", "+M");
+        table.put("n", "+N");
+        table.put("o", "+O");
+        table.put("p", "+P");
+        table.put("q", "+Q");
+        table.put("r", "+R");
+        table.put("s", "+S");
+        table.put("t", "+T");
+        table.put("u", "+U");
+        table.put("v", "+V");
+        table.put("w", "+W");
+        table.put("x", "+X");
+        table.put("y", "+Y");
+        table.put("z", "+Z");
+        table.put(getChar(127), "%T"); //also %X, %Y, %Z
+        return table;
+        }
+    private String InsertExtendedCharsIfNeeded(String formattedData) {
+        StringBuilder output = new StringBuilder();
+        for (char c : formattedData.toCharArray()) {
+            try {
+                String s = C39_Code.get(c);
+                output.append(c);
+            } catch(Exception ex) {
+                //insert extended substitution
+                Object oTrans = ExtC39_Translation.get(String.valueOf(c));
+                output.append(oTrans.toString());
+            }
+        }
+
+       return output.toString();
+    }
+
+    private char getChecksumChar(String strNoAsterisk) {
+        //checksum
+        String Code39_Charset = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ-. $/+%";
+        String source = InsertExtendedCharsIfNeeded(strNoAsterisk);
+        int sum = 0;
+
+        //Calculate the checksum
+        for (int i = 0; i < source.length(); ++i) {
+            sum = sum + Code39_Charset.indexOf(source.toCharArray()[i]);
+        }
+
+        //return the checksum char
+        return Code39_Charset.toCharArray()[sum % 43];
+    }
+
+    @Override
+    public String getEncodedValue() {
+        return encodeCode39();
+    }
+}
@@ -15,7 +15,7 @@ import java.util.Objects;
  * control characters.
  */
 public class Code93 extends BarcodeCommon {
-    private final List<Entry> C93_Code = new ArrayList<>();
+    private static final List<Entry> C93_Code = initCode93();
 
     private static class Entry {
         private final String value;
@@ -75,8 +75,6 @@ public class Code93 extends BarcodeCommon {
      * Encode the raw data using the Code 93 algorithm
      */
     private String encodeCode93() {
-        this.initCode93();
-
         String FormattedData = addCheckDigits(getRawData());
         StringBuilder result = new StringBuilder(findRowByCharacter("*").getEncoding());
         for (char c : FormattedData.toCharArray()) {
@@ -92,61 +90,60 @@ public class Code93 extends BarcodeCommon {
         //termination bar
         result.append("1");
 
-        //clear the hashtable so it no longer takes up memory
-        C93_Code.clear();
-
         return result.toString();
     }
-    private void initCode93() {
-        C93_Code.clear();
-        C93_Code.add(new Entry( "0",  "0", "100010100" ));
-        C93_Code.add(new Entry( "1",  "1", "101001000" ));
-        C93_Code.add(new Entry( "2",  "2", "101000100" ));
-        C93_Code.add(new Entry( "3",  "3", "101000010" ));
-        C93_Code.add(new Entry( "4",  "4", "100101000" ));
-        C93_Code.add(new Entry( "5",  "5", "100100100" ));
-        C93_Code.add(new Entry( "6",  "6", "100100010" ));
-        C93_Code.add(new Entry( "7",  "7", "101010000" ));
-        C93_Code.add(new Entry( "8",  "8", "100010010" ));
-        C93_Code.add(new Entry( "9",  "9", "100001010" ));
-        C93_Code.add(new Entry( "10", "A", "110101000" ));
-        C93_Code.add(new Entry( "11", "B", "110100100" ));
-        C93_Code.add(new Entry( "12", "C", "110100010" ));
-        C93_Code.add(new Entry( "13", "D", "110010100" ));
-        C93_Code.add(new Entry( "14", "E", "110010010" ));
-        C93_Code.add(new Entry( "15", "F", "110001010" ));
-        C93_Code.add(new Entry( "16", "G", "101101000" ));
-        C93_Code.add(new Entry( "17", "H", "101100100" ));
-        C93_Code.add(new Entry( "18", "I", "101100010" ));
-        C93_Code.add(new Entry( "19", "J", "100110100" ));
-        C93_Code.add(new Entry( "20", "K", "100011010" ));
-        C93_Code.add(new Entry( "21", "L", "101011000" ));
-        C93_Code.add(new Entry( "22", "M", "101001100" ));
-        C93_Code.add(new Entry( "23", "N", "101000110" ));
-        C93_Code.add(new Entry( "24", "O", "100101100" ));
-        C93_Code.add(new Entry( "25", "P", "100010110" ));
-        C93_Code.add(new Entry( "26", "Q", "110110100" ));
-        C93_Code.add(new Entry( "27", "R", "110110010" ));
-        C93_Code.add(new Entry( "28", "S", "110101100" ));
-        C93_Code.add(new Entry( "29", "T", "110100110" ));
-        C93_Code.add(new Entry( "30", "U", "110010110" ));
-        C93_Code.add(new Entry( "31", "V", "110011010" ));
-        C93_Code.add(new Entry( "32", "W", "101101100" ));
-        C93_Code.add(new Entry( "33", "X", "101100110" ));
-        C93_Code.add(new Entry( "34", "Y", "100110110" ));
-        C93_Code.add(new Entry( "35", "Z", "100111010" ));
-        C93_Code.add(new Entry( "36", "-", "100101110" ));
-        C93_Code.add(new Entry( "37", ".", "111010100" ));
-        C93_Code.add(new Entry( "38", " ", "111010010" ));
-        C93_Code.add(new Entry( "39", "$", "111001010" ));
-        C93_Code.add(new Entry( "40", "/", "101101110" ));
-        C93_Code.add(new Entry( "41", "+", "101110110" ));
-        C93_Code.add(new Entry( "42", "%", "110101110" ));
-        C93_Code.add(new Entry( "43", "(", "100100110" ));//don't know what character actually goes here
-        C93_Code.add(new Entry( "44", ")", "111011010" ));//don't know what character actually goes here
-        C93_Code.add(new Entry( "45", "#", "111010110" ));//don't know what character actually goes here
-        C93_Code.add(new Entry( "46", "@", "100110010" ));//don't know what character actually goes here
-        C93_Code.add(new Entry( "-",  "*", "101011110" ));
+    private static List<Entry> initCode93() {
+        List<Entry> table = new ArrayList<>();
+        table.add(new Entry( "0",  "0", "100010100" ));
+        table.add(new Entry( "1",  "1", "101001000" ));
+        table.add(new Entry( "2",  "2", "101000100" ));
+        table.add(new Entry( "3",  "3", "101000010" ));
+        table.add(new Entry( "4",  "4", "100101000" ));
+        table.add(new Entry( "5",  "5", "100100100" ));
+        table.add(new Entry( "6",  "6", "100100010" ));
+        table.add(new Entry( "7",  "7", "101010000" ));
+        table.add(new Entry( "8",  "8", "100010010" ));
+        table.add(new Entry( "9",  "9", "100001010" ));
+        table.add(new Entry( "10", "A", "110101000" ));
+        table.add(new Entry( "11", "B", "110100100" ));
+        table.add(new Entry( "12", "C", "110100010" ));
+        table.add(new Entry( "13", "D", "110010100" ));
+        table.add(new Entry( "14", "E", "110010010" ));
+        table.add(new Entry( "15", "F", "110001010" ));
+        table.add(new Entry( "16", "G", "101101000" ));
+        table.add(new Entry( "17", "H", "101100100" ));
+        table.add(new Entry( "18", "I", "101100010" ));
+        table.add(new Entry( "19", "J", "100110100" ));
+        table.add(new Entry( "20", "K", "100011010" ));
+        table.add(new Entry( "21", "L", "101011000" ));
+        table.add(new Entry( "22", "M", "101001100" ));
+        table.add(new Entry( "23", "N", "101000110" ));
+        table.add(new Entry( "24", "O", "100101100" ));
+        table.add(new Entry( "25", "P", "100010110" ));
+        table.add(new Entry( "26", "Q", "110110100" ));
+        table.add(new Entry( "27", "R", "110110010" ));
+        table.add(new Entry( "28", "S", "110101100" ));
+        table.add(new Entry( "29", "T", "110100110" ));
+        table.add(new Entry( "30", "U", "110010110" ));
+        table.add(new Entry( "31", "V", "110011010" ));
+        table.add(new Entry( "32", "W", "101101100" ));
+        table.add(new Entry( "33", "X", "101100110" ));
+        table.add(new Entry( "34", "Y", "100110110" ));
+        table.add(new Entry( "35", "Z", "100111010" ));
+        table.add(new Entry( "36", "-", "100101110" ));
+        table.add(new Entry( "37", ".", "111010100" ));
+        table.add(new Entry( "38", " ", "111010010" ));
+        table.add(new Entry( "39", "$", "111001010" ));
+        table.add(new Entry( "40", "/", "101101110" ));
+        table.add(new Entry( "41", "+", "101110110" ));
+        table.add(new Entry( "42", "%", "110101110" ));
+        table.add(new Entry( "43", "(", "100100110" ));//don't know what character actually goes here
+        table.add(new Entry( "44", ")", "111011010" ));//don't know what character actually goes here
+        table.add(new Entry( "45", "#", "111010110" ));//don't know what character actually goes here
+        table.add(new Entry( "46", "@", "100110010" ));//don't know what character actually goes here
+        table.add(new Entry( "-",  "*", "101011110" ));
+
+        return table;
     }
 
     private String addCheckDigits(String input) {
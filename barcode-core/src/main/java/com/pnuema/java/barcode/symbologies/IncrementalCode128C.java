@@ -0,0 +1,81 @@
+package com.pnuema.java.barcode.symbologies;
+
+/**
+ * Incremental encoder for numeric Code 128 payloads encoded entirely in code set C.
+ * Each digit pair is one 11 module symbol character, and the check character is the weighted sum of the
+ * symbol values modulo 103, so a changed digit only rewrites its own symbol character and the check character.
+ */
+final class IncrementalCode128C extends IncrementalEncoder {
+    private static final int SYMBOL_MODULES = 11;
+    private static final int START_C = 105;
+    private static final int STOP = 106;
+
+    private final char[] data;
+    private final char[] encoded;
+    private final int[] values;
+    private final boolean padded;
+    private int sum;
+
+    IncrementalCode128C(int payloadLength) {
+        //code C adds a 0 to the front of the data if the length is not divisible by 2
+        padded = payloadLength % 2 > 0;
+        data = new char[payloadLength + (padded ? 1 : 0)];
+        data[0] = '0';
+        values = new int[data.length / 2];
+
+        //start character, one symbol per pair, check character, stop character and termination bars
+        encoded = new char[(values.length + 2) * SYMBOL_MODULES + 11 + 2];
+        Code128.getPattern(START_C).getChars(0, SYMBOL_MODULES, encoded, 0);
+        String stop = Code128.getPattern(STOP) + "11";
+        stop.getChars(0, stop.length(), encoded, encoded.length - stop.length());
+    }
+
+    @Override
+    public void reset(char[] digits) {
+        System.arraycopy(digits, 0, data, padded ? 1 : 0, digits.length);
+        sum = START_C;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = value(i);
+            sum += values[i] * (i + 1);
+            writeSymbol(i + 1, values[i]);
+        }
+        writeCheckCharacter();
+    }
+
+    @Override
+    public void update(char[] digits, int from) {
+        int offset = padded ? 1 : 0;
+        System.arraycopy(digits, from, data, from + offset, digits.length - from);
+        for (int i = (from + offset) / 2; i < values.length; i++) {
+            int value = value(i);
+            if (value != values[i]) {
+                sum += (value - values[i]) * (i + 1);
+                values[i] = value;
+                writeSymbol(i + 1, value);
+            }
+        }
+        writeCheckCharacter();
+    }
+
+    private int value(int pair) {
+        return (data[pair * 2] - '0') * 10 + (data[pair * 2 + 1] - '0');
+    }
+
+    private void writeSymbol(int position, int value) {
+        Code128.getPattern(value).getChars(0, SYMBOL_MODULES, encoded, position * SYMBOL_MODULES);
+    }
+
+    private void writeCheckCharacter() {
+        writeSymbol(values.length + 1, sum % 103);
+    }
+
+    @Override
+    public String getRawData() {
+        return new String(data, padded ? 1 : 0, padded ? data.length - 1 : data.length);
+    }
+
+    @Override
+    public String getEncodedValue() {
+        return new String(encoded);
+    }
+}
@@ -0,0 +1,66 @@
+package com.pnuema.java.barcode.symbologies;
+
+import com.pnuema.java.barcode.EncodingType;
+
+/**
+ * Encodes a fixed-length numeric payload and then keeps the encoding up to date as individual
+ * digits change. Only the symbol characters covering the changed digits are re-encoded and the
+ * check digit/character is adjusted from the weight of the changed digits, which makes encoding a
+ * run of sequential serial numbers much cheaper than encoding every value from scratch.
+ * The produced raw data and encoded value are identical to those of the matching symbology class.
+ */
+public abstract class IncrementalEncoder {
+    /**
+     * Gets an incremental encoder for the given symbology and payload length.
+     *
+     * @param type   Symbology to encode
+     * @param length Number of digits in the payload (prefix and serial number)
+     * @return Incremental encoder, or null if the symbology/length combination does not support incremental encoding
+     */
+    public static IncrementalEncoder forType(EncodingType type, int length) {
+        switch (type) {
+            case ITF14:
+                return length == 13 || length == 14 ? new IncrementalInterleaved2of5(type, length) : null;
+            case Interleaved2of5:
+                return length > 0 && length % 2 == 0 ? new IncrementalInterleaved2of5(type, length) : null;
+            case Interleaved2of5_Mod10:
+                return length % 2 == 1 ? new IncrementalInterleaved2of5(type, length) : null;
+            case CODE128:
+                //dynamic Code 128 only stays in code set C for the whole symbol when there is an even number of digits
+                return length > 0 && length % 2 == 0 ? new IncrementalCode128C(length) : null;
+            case CODE128C:
+                return length > 0 ? new IncrementalCode128C(length) : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Encodes the complete payload.
+     *
+     * @param digits Payload digits ('0'-'9')
+     */
+    public abstract void reset(char[] digits);
+
+    /**
+     * Re-encodes the payload after the digits at index {@code from} and above have changed.
+     *
+     * @param digits Payload digits ('0'-'9'), the same length as passed to {@link #reset(char[])}
+     * @param from   Index of the leftmost digit that changed since the last call
+     */
+    public abstract void update(char[] digits, int from);
+
+    /**
+     * Gets the raw data of the current payload, including any check digit the symbology appends to it.
+     *
+     * @return Raw data
+     */
+    public abstract String getRawData();
+
+    /**
+     * Gets the encoded value of the current payload.
+     *
+     * @return Encoded value
+     */
+    public abstract String getEncodedValue();
+}
@@ -0,0 +1,108 @@
+package com.pnuema.java.barcode.symbologies;
+
+import com.pnuema.java.barcode.EncodingType;
+
+/**
+ * Incremental encoder for the interleaved 2 of 5 family (ITF-14, Interleaved 2 of 5 and Interleaved 2 of 5 Mod 10).
+ * Every digit pair maps to a fixed 14 module block so a changed digit only rewrites its own block and the block
+ * holding the check digit.
+ */
+final class IncrementalInterleaved2of5 extends IncrementalEncoder {
+    private static final int PAIR_MODULES = 14;
+    private static final char[][] PAIRS = initPairs();
+
+    private final char[] data;
+    private final char[] encoded;
+    private final int[] weights;
+    private final int payloadLength;
+    private final boolean checkDigit;
+    private final boolean charWeighted;
+    private int sum;
+
+    IncrementalInterleaved2of5(EncodingType type, int payloadLength) {
+        this.payloadLength = payloadLength;
+        this.checkDigit = type == EncodingType.Interleaved2of5_Mod10 || (type == EncodingType.ITF14 && payloadLength == 13);
+        //Utils2of5 sums the character codes rather than the digit values, keep the same check digit
+        this.charWeighted = type == EncodingType.Interleaved2of5_Mod10;
+
+        int length = payloadLength + (checkDigit ? 1 : 0);
+        data = new char[length];
+        encoded = new char[4 + (length / 2) * PAIR_MODULES + 4];
+        "1010".getChars(0, 4, encoded, 0);
+        "1101".getChars(0, 4, encoded, encoded.length - 4);
+
+        weights = new int[payloadLength];
+        for (int i = 0; i < payloadLength; i++) {
+            if (type == EncodingType.ITF14) {
+                weights[i] = i % 2 == 0 ? 3 : 1;
+            } else {
+                weights[i] = (payloadLength - 1 - i) % 2 == 0 ? 3 : 1;
+            }
+        }
+    }
+
+    private static char[][] initPairs() {
+        char[][] pairs = new char[100][];
+        for (int bars = 0; bars < 10; bars++) {
+            for (int spaces = 0; spaces < 10; spaces++) {
+                String patternBars = Interleaved2of5.I25_Code[bars];
+                String patternSpaces = Interleaved2of5.I25_Code[spaces];
+                StringBuilder modules = new StringBuilder(PAIR_MODULES);
+
+                //interleave
+                for (int i = 0; i < patternBars.length(); i++) {
+                    modules.append(patternBars.charAt(i) == 'N' ? "1" : "11");
+                    modules.append(patternSpaces.charAt(i) == 'N' ? "0" : "00");
+                }
+
+                pairs[bars * 10 + spaces] = modules.toString().toCharArray();
+            }
+        }
+        return pairs;
+    }
+
+    @Override
+    public void reset(char[] digits) {
+        sum = 0;
+        for (int i = 0; i < payloadLength; i++) {
+            sum += (charWeighted ? digits[i] : digits[i] - '0') * weights[i];
+        }
+        System.arraycopy(digits, 0, data, 0, payloadLength);
+        updateCheckDigit();
+        encodePairs(0);
+    }
+
+    @Override
+    public void update(char[] digits, int from) {
+        for (int i = from; i < payloadLength; i++) {
+            sum += (digits[i] - data[i]) * weights[i];
+            data[i] = digits[i];
+        }
+        updateCheckDigit();
+        encodePairs(from / 2);
+    }
+
+    private void updateCheckDigit() {
+        if (checkDigit) {
+            data[payloadLength] = (char) ('0' + (10 - sum % 10) % 10);
+        }
+    }
+
+    private void encodePairs(int fromPair) {
+        for (int pair = fromPair; pair < data.length / 2; pair++) {
+            char[] modules = PAIRS[(data[pair * 2] - '0') * 10 + (data[pair * 2 + 1] - '0')];
+            System.arraycopy(modules, 0, encoded, 4 + pair * PAIR_MODULES, PAIR_MODULES);
+        }
+    }
+
+    @Override
+    public String getRawData() {
+        //Interleaved 2 of 5 Mod 10 only appends the check digit to the encoded value, not the raw data
+        return new String(data, 0, charWeighted ? payloadLength : data.length);
+    }
+
+    @Override
+    public String getEncodedValue() {
+        return new String(encoded);
+    }
+}
@@ -12,7 +12,7 @@ import com.pnuema.java.barcode.utils.Utils2of5;
  * data validation and error handling, and adds specific encoding for the Interleaved 2 of 5 symbology.
  */
 public class Interleaved2of5 extends BarcodeCommon {
-    private final String[] I25_Code = {"NNWWN", "WNNNW", "NWNNW", "WWNNN", "NNWNW", "WNWNN", "NWWNN", "NNNWW", "WNNWN", "NWNWN"};
+    static final String[] I25_Code = {"NNWWN", "WNNNW", "NWNNW", "WWNNN", "NNWNW", "WNWNN", "NWWNN", "NNNWW", "WNNWN", "NWNWN"};
     private final EncodingType type;
 
     /**
@@ -0,0 +1,273 @@
+package com.pnuema.java.barcode.symbologies;
+
+import com.pnuema.java.barcode.BarcodeCommon;
+
+import java.util.HashMap;
+
+/**
+ * Represents a UPC-A (Universal Product Code - A) barcode, allowing for encoding
+ * of raw UPC-A data into its equivalent graphical barcode format. The UPC-A
+ * format typically consists of 12 numeric digits, with the final digit serving
+ * as a check digit.
+ */
+public class UPCA extends BarcodeCommon {
+    private final String[] UPC_CodeA = {"0001101", "0011001", "0010011", "0111101", "0100011", "0110001", "0101111", "0111011", "0110111", "0001011"};
+    private final String[] UPC_CodeB = {"1110010", "1100110", "1101100", "1000010", "1011100", "1001110", "1010000", "1000100", "1001000", "1110100"};
+    private static final HashMap<String, String> countryCodes = init_CountryCodes();
+
+    /**
+     * Constructs a UPCA (Universal Product Code - A) barcode instance, initializing
+     * the raw UPC code data provided as input. The input is stored in the instance
+     * and is later used for encoding the barcode.
+     *
+     * @param input the raw UPC-A code data as a string. The input must follow
+     *              the UPC-A format, typically consisting of 11 or 12 numeric characters.
+     *              It serves as the base data for generating the encoded barcode.
+     *              Passing invalid or non-numeric data may result in errors during
+     *              the encoding process.
+     */
+    public UPCA(String input) {
+        setRawData(input);
+    }
+
+    /**
+     * Encode the raw data using the UPC-A algorithm.
+     *
+     * @return Encoded value
+     */
+    private String encodeUPCA() {
+        //check length of input
+        if (getRawData().length() != 11 && getRawData().length() != 12) {
+            error("EUPCA-1: Data length invalid. (Length must be 11 or 12)");
+        }
+
+        //check numeric only
+        if (!checkNumericOnly(getRawData())) {
+            error("EUPCA-2: Numeric Data Only");
+        }
+
+        calculateCheckDigit();
+
+        String result = doEncoding();
+
+        //get the manufacturer assigning country
+        String twoDigitCode = "0" + getRawData().charAt(0);
+        try {
+            String countryAssigningManufacturerCode = countryCodes.get(twoDigitCode);
+        } catch (Exception ex) {
+            error("EUPCA-3: Country assigning manufacturer code not found.");
+        }
+
+        return result;
+    }
+
+    private String doEncoding() {
+        StringBuilder result = new StringBuilder("101"); //start with guard bars
+
+        //first number
+        result.append(UPC_CodeA[Integer.parseInt(String.valueOf(getRawData().toCharArray()[0]))]);
+
+        //second (group) of numbers
+        int pos = 0;
+        while (pos < 5) {
+            result.append(UPC_CodeA[Integer.parseInt(String.valueOf(getRawData().toCharArray()[pos + 1]))]);
+            pos++;
+        }
+
+        //add divider bars
+        result.append("01010");
+
+        //third (group) of numbers
+        pos = 0;
+        while (pos < 5) {
+            result.append(UPC_CodeB[Integer.parseInt(String.valueOf(getRawData().toCharArray()[(pos++) + 6]))]);
+        }
+
+        //forth
+        result.append(UPC_CodeB[Integer.parseInt(String.valueOf(getRawData().toCharArray()[getRawData().length() - 1]))]);
+
+        //add ending guard bars
+        result.append("101");
+        return result.toString();
+    }
+
+    private static HashMap<String, String> init_CountryCodes() {
+        HashMap<String, String> codes = new HashMap<>();
+        codes.put("00", "US / CANADA");
+        codes.put("01", "US / CANADA");
+        codes.put("02", "US / CANADA");
+        codes.put("03", "US / CANADA");
+        codes.put("04", "US / CANADA");
+        codes.put("05", "US / CANADA");
+        codes.put("06", "US / CANADA");
+        codes.put("07", "US / CANADA");
+        codes.put("08", "US / CANADA");
+        codes.put("09", "US / CANADA");
+        codes.put("10", "US / CANADA");
+        codes.put("11", "US / CANADA");
+        codes.put("12", "US / CANADA");
+        codes.put("13", "US / CANADA");
+
+        codes.put("20", "IN STORE");
+        codes.put("21", "IN STORE");
+        codes.put("22", "IN STORE");
+        codes.put("23", "IN STORE");
+        codes.put("24", "IN STORE");
+        codes.put("25", "IN STORE");
+        codes.put("26", "IN STORE");
+        codes.put("27", "IN STORE");
+        codes.put("28", "IN STORE");
+        codes.put("29", "IN STORE");
+
+        codes.put("30", "FRANCE");
+        codes.put("31", "FRANCE");
+        codes.put("32", "FRANCE");
+        codes.put("33", "FRANCE");
+        codes.put("34", "FRANCE");
+        codes.put("35", "FRANCE");
+        codes.put("36", "FRANCE");
+        codes.put("37", "FRANCE");
+
+        codes.put("40", "GERMANY");
+        codes.put("41", "GERMANY");
+        codes.put("42", "GERMANY");
+        codes.put("43", "GERMANY");
+        codes.put("44", "GERMANY");
+
+        codes.put("45", "JAPAN");
+        codes.put("46", "RUSSIAN FEDERATION");
+        codes.put("49", "JAPAN (JAN-13)");
+
+        codes.put("50", "UNITED KINGDOM");
+        codes.put("54", "BELGIUM / LUXEMBOURG");
+        codes.put("57", "DENMARK");
+
+        codes.put("64", "FINLAND");
+
+        codes.put("70", "NORWAY");
+        codes.put("73", "SWEDEN");
+        codes.put("76", "SWITZERLAND");
+
+        codes.put("80", "ITALY");
+        codes.put("81", "ITALY");
+        codes.put("82", "ITALY");
+        codes.put("83", "ITALY");
+        codes.put("84", "SPAIN");
+        codes.put("87", "NETHERLANDS");
+
+        codes.put("90", "AUSTRIA");
+        codes.put("91", "AUSTRIA");
+        codes.put("93", "AUSTRALIA");
+        codes.put("94", "NEW ZEALAND");
+        codes.put("99", "COUPONS");
+
+        codes.put("471", "TAIWAN");
+        codes.put("474", "ESTONIA");
+        codes.put("475", "LATVIA");
+        codes.put("477", "LITHUANIA");
+        codes.put("479", "SRI LANKA");
+        codes.put("480", "PHILIPPINES");
+        codes.put("482", "UKRAINE");
+        codes.put("484", "MOLDOVA");
+        codes.put("485", "ARMENIA");
+        codes.put("486", "GEORGIA");
+        codes.put("487", "KAZAKHSTAN");
+        codes.put("489", "HONG KONG");
+
+        codes.put("520", "GREECE");
+        codes.put("528", "LEBANON");
+        codes.put("529", "CYPRUS");
+        codes.put("531", "MACEDONIA");
+        codes.put("535", "MALTA");
+        codes.put("539", "IRELAND");
+        codes.put("560", "PORTUGAL");
+        codes.put("569", "ICELAND");
+        codes.put("590", "POLAND");
+        codes.put("594", "ROMANIA");
+        codes.put("599", "HUNGARY");
+
+        codes.put("600", "SOUTH AFRICA");
+        codes.put("601", "SOUTH AFRICA");
+        codes.put("609", "MAURITIUS");
+        codes.put("611", "MOROCCO");
+        codes.put("613", "ALGERIA");
+        codes.put("619", "TUNISIA");
+        codes.put("622", "EGYPT");
+        codes.put("625", "JORDAN");
+        codes.put("626", "IRAN");
+        codes.put("690", "CHINA");
+        codes.put("691", "CHINA");
+        codes.put("692", "CHINA");
+
+        codes.put("729", "ISRAEL");
+        codes.put("740", "GUATEMALA");
+        codes.put("741", "EL SALVADOR");
+        codes.put("742", "HONDURAS");
+        codes.put("743", "NICARAGUA");
+        codes.put("744", "COSTA RICA");
+        codes.put("746", "DOMINICAN REPUBLIC");
+        codes.put("750", "MEXICO");
+        codes.put("759", "VENEZUELA");
+        codes.put("770", "COLOMBIA");
+        codes.put("773", "URUGUAY");
+        codes.put("775", "PERU");
+        codes.put("777", "BOLIVIA");
+        codes.put("779", "ARGENTINA");
+        codes.put("780", "CHILE");
+        codes.put("784", "PARAGUAY");
+        codes.put("785", "PERU");
+        codes.put("786", "ECUADOR");
+        codes.put("789", "BRAZIL");
+
+        codes.put("850", "CUBA");
+        codes.put("858", "SLOVAKIA");
+        codes.put("859", "CZECH REPUBLIC");
+        codes.put("860", "YUGLOSLAVIA");
+        codes.put("869", "TURKEY");
+        codes.put("880", "SOUTH KOREA");
+        codes.put("885", "THAILAND");
+        codes.put("888", "SINGAPORE");
+        codes.put("890", "INDIA");
+        codes.put("893", "VIETNAM");
+        codes.put("899", "INDONESIA");
+
+        codes.put("955", "MALAYSIA");
+        codes.put("977", "INTERNATIONAL STANDARD SERIAL NUMBER FOR PERIODICALS (ISSN)");
+        codes.put("978", "INTERNATIONAL STANDARD BOOK NUMBERING (ISBN)");
+        codes.put("979", "INTERNATIONAL STANDARD MUSIC NUMBER (ISMN)");
+        codes.put("980", "REFUND RECEIPTS");
+        codes.put("981", "COMMON CURRENCY COUPONS");
+        codes.put("982", "COMMON CURRENCY COUPONS");
+
+        return codes;
+    }
+
+    @SuppressWarnings("DuplicatedCode")
+    private void calculateCheckDigit() {
+        try {
+            String rawDataHolder = getRawData().substring(0, 11);
+
+            //calculate check digit
+            int sum = 0;
+
+            for (int i = 0; i < rawDataHolder.length(); i++) {
+                int parseInt = Integer.parseInt(rawDataHolder.substring(i, i + 1));
+                if (i % 2 == 0) {
+                    sum += parseInt * 3;
+                } else {
+                    sum += parseInt;
+                }
+            }
+
+            int cs = (10 - sum % 10) % 10;
+
+            setRawData(rawDataHolder + String.valueOf(cs).toCharArray()[0]);
+        } catch (Exception ex) {
+            error("EUPCA-4: Error calculating check digit.");
+        }
+    }
+
+    public String getEncodedValue() {
+        return encodeUPCA();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+/**
+ * Encodes data into the bars and spaces of barcode symbologies.
+ * Encoding never needs java.desktop, so runtime images for encode only services can leave it out. {@link
+ * com.pnuema.java.barcode.Barcode} draws images with the {@link com.pnuema.java.barcode.BarcodeRenderer} found at run
+ * time and needs the com.pnuema.java.barcode.awt module. The flight recorder events and the JMX statistics are only
+ * used when jdk.jfr and java.management are present.
+ */
+module com.pnuema.java.barcode {
+    requires static java.desktop;
+    requires static java.management;
+    requires static jdk.jfr;
+
+    exports com.pnuema.java.barcode;
+    exports com.pnuema.java.barcode.cache;
+    exports com.pnuema.java.barcode.font;
+    exports com.pnuema.java.barcode.jfr;
+    exports com.pnuema.java.barcode.metrics;
+    exports com.pnuema.java.barcode.symbologies;
+
+    uses com.pnuema.java.barcode.BarcodeRenderer;
+    uses com.pnuema.java.barcode.SymbologyProvider;
+}
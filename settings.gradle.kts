@@ -79,3 +79,5 @@ private fun isOnline(): Boolean {
 }
 
 rootProject.name = "barcode"
+
+include(":barcode-core", ":barcode-awt")